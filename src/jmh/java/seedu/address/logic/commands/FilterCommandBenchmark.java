@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.BudgetMax;
+import seedu.address.model.contact.BudgetMin;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactAddress;
+import seedu.address.model.contact.ContactStatus;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Notes;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.property.Bathroom;
+import seedu.address.model.property.Bedroom;
+import seedu.address.model.property.FloorArea;
+import seedu.address.model.property.Owner;
+import seedu.address.model.property.Postal;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyAddress;
+import seedu.address.model.property.Status;
+import seedu.address.model.property.Type;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Measures executing {@link FilterPropertyCommand} and {@link FilterContactCommand} on a model whose lists are
+ * showing every entry, as after a {@code list} command, and one filter after another.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterCommandBenchmark {
+
+    private static final String[] TYPES = {"hdb", "condo", "landed", "apartment", "office", "others"};
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George"};
+
+    @Param({"200000"})
+    public int size;
+
+    private Model model;
+    private FilterPropertyCommand filterPropertyByOwnerAndType;
+    private FilterPropertyCommand filterPropertyByStatus;
+    private FilterContactCommand filterContactByNameAndPhone;
+    private FilterContactCommand filterContactByStatus;
+
+    /**
+     * Builds a model with {@code size} properties and {@code size} contacts, and the commands under test.
+     */
+    @Setup
+    public void setUp() {
+        List<Property> properties = new ArrayList<>(size);
+        List<Contact> contacts = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            properties.add(new Property(new Uuid(i, PROPERTY),
+                    new PropertyAddress("Blk " + i + " Serangoon Street " + (i % 97)),
+                    new Bathroom(String.valueOf(1 + i % 4)), new Bedroom(String.valueOf(1 + i % 5)),
+                    new FloorArea(String.valueOf(50 + i % 200)), new Postal(String.valueOf(100000 + i % 800000)),
+                    new Price(String.valueOf(300000 + i % 900000)),
+                    new Status(i % 3 == 0 ? "unavailable" : "available"), new Type(TYPES[i % TYPES.length]),
+                    new Owner(String.valueOf(1 + i % 1000)), Set.of(), Set.of()));
+            contacts.add(new Contact(new Uuid(i, CONTACT), new Name(firstName + " Tan"),
+                    new Phone(String.valueOf(80000000 + i * 7)),
+                    new Email(firstName.toLowerCase() + i + "@example.com"),
+                    new ContactAddress("Blk " + i + " Serangoon Street " + (i % 97)),
+                    new BudgetMin("100000"), new BudgetMax("900000"), new Notes("Looking for a condo"),
+                    new ContactStatus(i % 2 == 0 ? "Active" : "Inactive"), Set.of(), Set.of()));
+        }
+        PropertyBook propertyBook = new PropertyBook();
+        propertyBook.setProperties(properties);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+        model = new ModelManager(addressBook, propertyBook, new UserPrefs());
+
+        filterPropertyByOwnerAndType = new FilterPropertyCommand(new PropertyMatchesFilterPredicate.Builder()
+                .withOwner("42").withType("condo").build());
+        filterPropertyByStatus = new FilterPropertyCommand(new PropertyMatchesFilterPredicate.Builder()
+                .withStatus("available").build());
+        filterContactByNameAndPhone = new FilterContactCommand(new FilterContactPredicate(
+                Optional.of(List.of("fiona")), Optional.of(List.of("8000123")), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+        filterContactByStatus = new FilterContactCommand(new FilterContactPredicate(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(List.of("active"))));
+    }
+
+    /**
+     * Shows every entry again, so that each invocation filters the whole book.
+     */
+    @Setup(Level.Invocation)
+    public void showAll() {
+        model.updateFilteredPropertyList(Model.PREDICATE_SHOW_ALL_PROPERTIES);
+        model.updateFilteredContactList(Model.PREDICATE_SHOW_ALL_CONTACTS);
+    }
+
+    @Benchmark
+    public CommandResult filterPropertiesByOwnerAndType() throws Exception {
+        return filterPropertyByOwnerAndType.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult filterPropertiesByStatus() throws Exception {
+        return filterPropertyByStatus.execute(model);
+    }
+
+    /**
+     * Filters by status after filtering by owner and type, so the second filter narrows a view that shows only a few
+     * properties.
+     */
+    @Benchmark
+    public CommandResult filterPropertiesByOwnerAndTypeThenStatus() throws Exception {
+        filterPropertyByOwnerAndType.execute(model);
+        return filterPropertyByStatus.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult filterContactsByNameAndPhone() {
+        return filterContactByNameAndPhone.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult filterContactsByStatus() {
+        return filterContactByStatus.execute(model);
+    }
+}
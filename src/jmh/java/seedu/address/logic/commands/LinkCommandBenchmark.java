@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.LinkCommand.LinkDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Property;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Measures executing a {@link LinkCommand} that links a batch of contacts to one property as buyers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkCommandBenchmark {
+
+    private static final int LINKED_CONTACT_COUNT = 100;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Model model;
+    private LinkCommand linkCommand;
+    private List<Contact> originalContacts;
+    private List<Property> originalProperties;
+
+    /**
+     * Builds a model with {@code size} contacts and properties, and a command linking contacts that are not yet
+     * associated with an available property.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(size),
+                SyntheticDataUtil.getSyntheticPropertyBook(size), new UserPrefs());
+
+        Property property = model.getPropertyBook().getPropertyList().stream()
+                .filter(p -> p.getUuid().getValue() >= size / 2 && p.getStatus().value.equalsIgnoreCase("available"))
+                .findFirst().orElseThrow();
+        Set<Uuid> contactIds = new HashSet<>();
+        originalContacts = new ArrayList<>();
+        for (int id = size; id > 0 && contactIds.size() < LINKED_CONTACT_COUNT; id--) {
+            Uuid contactId = new Uuid(id, CONTACT);
+            if (!property.isAssociatedWith(contactId)) {
+                contactIds.add(contactId);
+                originalContacts.add(model.getContactById(contactId));
+            }
+        }
+        originalProperties = List.of(property);
+
+        LinkDescriptor linkDescriptor = new LinkDescriptor();
+        linkDescriptor.setContactIds(contactIds);
+        linkDescriptor.setPropertyIds(Set.of(property.getUuid()));
+        linkDescriptor.setRelationship("buyer");
+        linkCommand = new LinkCommand(linkDescriptor);
+    }
+
+    /**
+     * Puts back the contacts and property as they were before linking, so that every invocation links them anew.
+     */
+    @Setup(Level.Invocation)
+    public void unlink() {
+        model.applyBatch(originalContacts, originalProperties);
+    }
+
+    @Benchmark
+    public CommandResult link() throws Exception {
+        return linkCommand.execute(model);
+    }
+}
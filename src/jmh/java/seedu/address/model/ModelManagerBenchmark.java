@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures building a {@link ModelManager} from loaded books, as the app does at startup, and replacing the data of
+ * an existing one, which {@link ModelManager#setAddressBook} and {@link ModelManager#setPropertyBook} do through
+ * {@code resetData}. Both copy every entry into the model's own books and build their indexes and filtered lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private PropertyBook propertyBook;
+    private UserPrefs userPrefs;
+    private ModelManager modelManager;
+
+    /**
+     * Builds an address book and a property book with {@code size} entries each, and a model to replace the data of.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(size);
+        propertyBook = SyntheticDataUtil.getSyntheticPropertyBook(size);
+        userPrefs = new UserPrefs();
+        modelManager = new ModelManager();
+    }
+
+    @Benchmark
+    public ModelManager construct() {
+        return new ModelManager(addressBook, propertyBook, userPrefs);
+    }
+
+    @Benchmark
+    public ModelManager setBooks() {
+        modelManager.setAddressBook(addressBook);
+        modelManager.setPropertyBook(propertyBook);
+        return modelManager;
+    }
+}
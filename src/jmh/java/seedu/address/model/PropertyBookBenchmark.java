@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Measures {@link PropertyBook#generateNextUuid}, which {@code AddPropertyCommand} calls for every new property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private PropertyBook propertyBook;
+
+    /**
+     * Builds a property book with {@code size} properties.
+     */
+    @Setup
+    public void setUp() {
+        propertyBook = SyntheticDataUtil.getSyntheticPropertyBook(size);
+    }
+
+    @Benchmark
+    public Uuid generateNextUuid() {
+        return propertyBook.generateNextUuid();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.contact;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures testing every contact of a list against a {@link FilterContactPredicate}, as {@code FilteredList} does
+ * when the predicate is not answered from an index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterContactPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Contact> contacts;
+    private FilterContactPredicate textPredicate;
+    private FilterContactPredicate budgetAndStatusPredicate;
+
+    /**
+     * Builds {@code size} contacts and the predicates under test.
+     */
+    @Setup
+    public void setUp() {
+        contacts = SyntheticDataUtil.getSyntheticContacts(size);
+        textPredicate = new FilterContactPredicate(Optional.of(List.of("fiona")), Optional.of(List.of("80001234")),
+                Optional.empty(), Optional.of(List.of("tampines")), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        budgetAndStatusPredicate = new FilterContactPredicate(Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.of(1500000L), Optional.of(300000L), Optional.empty(),
+                Optional.of(List.of("inactive")));
+    }
+
+    @Benchmark
+    public int filterByNamePhoneAndAddress() {
+        return countMatches(textPredicate);
+    }
+
+    @Benchmark
+    public int filterByBudgetAndStatus() {
+        return countMatches(budgetAndStatusPredicate);
+    }
+
+    private int countMatches(FilterContactPredicate predicate) {
+        int matches = 0;
+        for (Contact contact : contacts) {
+            if (predicate.test(contact)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
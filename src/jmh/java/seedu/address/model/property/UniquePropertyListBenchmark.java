@@ -0,0 +1,82 @@
+package seedu.address.model.property;
+
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Measures adding properties to, and checking for duplicates in, a {@link UniquePropertyList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePropertyListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private UniquePropertyList list;
+    private Property existingProperty;
+    private Property newProperty;
+
+    /**
+     * Fills the list with {@code size} properties, and builds a property that is not in it.
+     */
+    @Setup
+    public void setUp() {
+        List<Property> properties = SyntheticDataUtil.getSyntheticProperties(size);
+        list = new UniquePropertyList();
+        list.setProperties(properties);
+        existingProperty = properties.get(size / 2);
+        newProperty = new Property(new Uuid(size + 1, PROPERTY), new PropertyAddress("Blk 1 Benchmark Road"),
+                new Bathroom("1"), new Bedroom("2"), new FloorArea("70"), new Postal("999999"),
+                new Price("500000"), new Status("available"), new Type("hdb"), new Owner("1"), Set.of(), Set.of());
+    }
+
+    /**
+     * Removes the property added by {@link #add}, so that every invocation adds to a list of {@code size}.
+     */
+    @TearDown(Level.Invocation)
+    public void removeNewProperty() {
+        if (list.contains(newProperty)) {
+            list.remove(newProperty);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        list.add(newProperty);
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return list.contains(existingProperty);
+    }
+
+    @Benchmark
+    public boolean containsNew() {
+        return list.contains(newProperty);
+    }
+}
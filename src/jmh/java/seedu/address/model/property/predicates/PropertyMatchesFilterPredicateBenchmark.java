@@ -0,0 +1,71 @@
+package seedu.address.model.property.predicates;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.property.Property;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures filtering a list of properties with {@link PropertyMatchesFilterPredicate}, as
+ * {@code FilterPropertyCommand} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyMatchesFilterPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Property> properties;
+    private PropertyMatchesFilterPredicate textPredicate;
+    private PropertyMatchesFilterPredicate numericPredicate;
+
+    /**
+     * Builds {@code size} properties and the predicates under test.
+     */
+    @Setup
+    public void setUp() {
+        properties = SyntheticDataUtil.getSyntheticProperties(size);
+        textPredicate = new PropertyMatchesFilterPredicate.Builder()
+                .withAddress("SERANGOON gardens 4").withOwner("43").build();
+        numericPredicate = new PropertyMatchesFilterPredicate.Builder()
+                .withType("Condo").withStatus("available").withBedroom("3").withPrice("1000000").build();
+    }
+
+    @Benchmark
+    public int filterByAddressAndOwner() {
+        return countMatches(textPredicate);
+    }
+
+    @Benchmark
+    public int filterByTypeStatusBedroomAndPrice() {
+        return countMatches(numericPredicate);
+    }
+
+    private int countMatches(PropertyMatchesFilterPredicate predicate) {
+        int matches = 0;
+        for (Property property : properties) {
+            if (predicate.test(property)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
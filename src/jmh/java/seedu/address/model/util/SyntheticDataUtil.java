@@ -0,0 +1,58 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Property;
+
+/**
+ * Contains utility methods for populating books with any number of generated contacts and properties, for
+ * benchmarks that need more data than {@link SampleDataUtil} provides.
+ * <p>
+ * The entries come from a {@link SyntheticDataGenerator} with the default seed, so the same count always produces
+ * the same entries, and the links on both sides agree as they would in a saved book.
+ * </p>
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    private static SyntheticDataGenerator getGenerator(int count) {
+        return new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED, count, count,
+                SyntheticDataGenerator.DEFAULT_BUYERS_PER_PROPERTY);
+    }
+
+    /**
+     * Returns {@code count} properties with uuids 1 to {@code count}.
+     */
+    public static List<Property> getSyntheticProperties(int count) {
+        List<Property> properties = new ArrayList<>(count);
+        getGenerator(count).properties().forEach(properties::add);
+        return properties;
+    }
+
+    /**
+     * Returns {@code count} contacts with uuids 1 to {@code count}, linked to the properties returned by
+     * {@link #getSyntheticProperties} for the same count.
+     */
+    public static List<Contact> getSyntheticContacts(int count) {
+        List<Contact> contacts = new ArrayList<>(count);
+        getGenerator(count).contacts().forEach(contacts::add);
+        return contacts;
+    }
+
+    /**
+     * Returns an address book holding the contacts returned by {@link #getSyntheticContacts}.
+     */
+    public static AddressBook getSyntheticAddressBook(int count) {
+        return getGenerator(count).getAddressBook();
+    }
+
+    /**
+     * Returns a property book holding the properties returned by {@link #getSyntheticProperties}.
+     */
+    public static PropertyBook getSyntheticPropertyBook(int count) {
+        return getGenerator(count).getPropertyBook();
+    }
+}
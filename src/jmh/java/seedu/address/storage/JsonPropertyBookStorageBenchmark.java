@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures saving and reading a property book through {@link JsonPropertyBookStorage}, as the app does after each
+ * command and at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPropertyBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private PropertyBook propertyBook;
+    private JsonPropertyBookStorage readStorage;
+    private JsonPropertyBookStorage saveStorage;
+
+    /**
+     * Builds a property book with {@code size} properties, and saves it once for the read benchmark.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("propertybook-benchmark");
+        propertyBook = SyntheticDataUtil.getSyntheticPropertyBook(size);
+        readStorage = new JsonPropertyBookStorage(directory.resolve("read.json"));
+        readStorage.savePropertyBook(propertyBook);
+        saveStorage = new JsonPropertyBookStorage(directory.resolve("save.json"));
+    }
+
+    /**
+     * Deletes the saved files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.savePropertyBook(propertyBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyPropertyBook> read() throws DataLoadingException {
+        return readStorage.readPropertyBook();
+    }
+}
@@ -10,6 +10,7 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BatchMode;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -18,6 +19,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private BatchMode scriptMode = BatchMode.ROLL_BACK_ON_FAILURE;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,8 +30,29 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public BatchMode getScriptMode() {
+        return scriptMode;
+    }
+
+    public void setScriptMode(BatchMode scriptMode) {
+        this.scriptMode = scriptMode;
+    }
+
     /**
      * Parses the application command-line parameters.
+     * <p>
+     * {@code --config=FILE} sets the config file. {@code --script=FILE} names a file of commands, one per line, to be
+     * executed as one batch on start-up, and {@code --on-failure=continue} makes the batch skip lines that fail
+     * instead of rolling back every change.
+     * </p>
      */
     public static AppParameters parse(Application.Parameters parameters) {
         AppParameters appParameters = new AppParameters();
@@ -41,6 +65,20 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be executed.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String onFailureParameter = namedParameters.get("on-failure");
+        if ("continue".equals(onFailureParameter)) {
+            appParameters.setScriptMode(BatchMode.CONTINUE_ON_FAILURE);
+        } else if (onFailureParameter != null && !"rollback".equals(onFailureParameter)) {
+            logger.warning("Invalid on-failure value " + onFailureParameter + ". Rolling back on failure.");
+        }
+
         return appParameters;
     }
 
@@ -56,18 +94,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && scriptMode == otherAppParameters.scriptMode;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, scriptMode);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("scriptMode", scriptMode)
                 .toString();
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -13,8 +14,11 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchMode;
+import seedu.address.logic.BatchResult;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -25,6 +29,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JournalPropertyBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonPropertyBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -60,21 +66,50 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        PropertyBookStorage propertyBookStorage = new JsonPropertyBookStorage(userPrefs.getPropertyBookFilePath());
+        AddressBookStorage addressBookStorage;
+        PropertyBookStorage propertyBookStorage;
+        if (config.isDataJournaled()) {
+            addressBookStorage = new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    config.isDataPrettyPrinted(), config.getDataGenerationsKept());
+            propertyBookStorage = new JournalPropertyBookStorage(userPrefs.getPropertyBookFilePath(),
+                    config.isDataPrettyPrinted(), config.getDataGenerationsKept());
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    config.isDataPrettyPrinted(), config.getDataGenerationsKept());
+            propertyBookStorage = new JsonPropertyBookStorage(userPrefs.getPropertyBookFilePath(),
+                    config.isDataPrettyPrinted(), config.getDataGenerationsKept());
+        }
         storage = new StorageManager(addressBookStorage, propertyBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath(), appParameters.getScriptMode());
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Executes the commands in the file at {@code scriptPath}, one per line, as one batch, and logs the result.
+     * The file is skipped if it cannot be read.
+     */
+    private void runScript(Path scriptPath, BatchMode mode) {
+        logger.info("Running script : " + scriptPath);
+        try {
+            BatchResult result = logic.executeBatch(Files.readAllLines(scriptPath), mode);
+            logger.info("Script result : " + result.getFeedbackToUser());
+        } catch (IOException e) {
+            logger.warning("Script file at " + scriptPath + " could not be read: " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book
+     * and every earlier version of it that storage keeps.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath()
@@ -198,6 +233,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data " + e.getMessage());
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isDataPrettyPrinted = true;
+    private int dataGenerationsKept = 2;
+    private boolean isDataJournaled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,34 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isDataPrettyPrinted() {
+        return isDataPrettyPrinted;
+    }
+
+    public void setDataPrettyPrinted(boolean isDataPrettyPrinted) {
+        this.isDataPrettyPrinted = isDataPrettyPrinted;
+    }
+
+    public int getDataGenerationsKept() {
+        return dataGenerationsKept;
+    }
+
+    public void setDataGenerationsKept(int dataGenerationsKept) {
+        this.dataGenerationsKept = dataGenerationsKept;
+    }
+
+    /**
+     * Returns true if each save appends the changed entries to a journal next to the data file, rather than
+     * rewriting the whole file.
+     */
+    public boolean isDataJournaled() {
+        return isDataJournaled;
+    }
+
+    public void setDataJournaled(boolean isDataJournaled) {
+        this.isDataJournaled = isDataJournaled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +78,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isDataPrettyPrinted == otherConfig.isDataPrettyPrinted
+                && dataGenerationsKept == otherConfig.dataGenerationsKept
+                && isDataJournaled == otherConfig.isDataJournaled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isDataPrettyPrinted, dataGenerationsKept, isDataJournaled);
     }
 
     @Override
@@ -60,6 +94,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isDataPrettyPrinted", isDataPrettyPrinted)
+                .add("dataGenerationsKept", dataGenerationsKept)
+                .add("isDataJournaled", isDataJournaled)
                 .toString();
     }
 
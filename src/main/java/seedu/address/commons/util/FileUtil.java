@@ -1,17 +1,37 @@
 package seedu.address.commons.util;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +95,80 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeAtomically(Path, int, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, 0, out -> out.write(bytes));
+    }
+
+    /**
+     * Returns the path of an earlier generation of {@code file}, where generation 1 is the most recent one.
+     */
+    public static Path getGenerationPath(Path file, int generation) {
+        checkArgument(generation > 0, "Generation must be positive");
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, such that a crash at any point
+     * leaves either the old or the new content in place.
+     * <p>
+     * The content is written to a sibling temporary file and forced to the disk, which is then moved over
+     * {@code file} in one step. The replaced content is kept as generation 1 of the file (see
+     * {@link #getGenerationPath(Path, int)}), shifting older generations back and dropping the ones past
+     * {@code generationsToKeep}. The stream given to {@code writer} is buffered and must not be closed by it.
+     * </p>
+     *
+     * @param generationsToKeep how many earlier versions of the file to keep; 0 keeps none.
+     * @throws IOException if the file could not be written. The file is then left unchanged.
+     */
+    public static void writeAtomically(Path file, int generationsToKeep, ContentWriter writer) throws IOException {
+        checkArgument(generationsToKeep >= 0, "Number of generations cannot be negative");
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (generationsToKeep > 0 && isFileExists(file)) {
+            keepAsGeneration(file, generationsToKeep);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Shifts the generations of {@code file} back by one and makes its current content generation 1,
+     * leaving {@code file} itself in place.
+     */
+    private static void keepAsGeneration(Path file, int generationsToKeep) throws IOException {
+        Files.deleteIfExists(getGenerationPath(file, generationsToKeep));
+        for (int generation = generationsToKeep - 1; generation >= 1; generation--) {
+            Path older = getGenerationPath(file, generation);
+            if (Files.exists(older)) {
+                Files.move(older, getGenerationPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newest = getGenerationPath(file, 1);
+        try {
+            Files.createLink(newest, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            // hard links are not available on every file system; a copy keeps the same content
+            Files.copy(file, newest, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
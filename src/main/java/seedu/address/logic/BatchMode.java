@@ -0,0 +1,12 @@
+package seedu.address.logic;
+
+/**
+ * Represents how a batch of commands handles a line that cannot be parsed or executed.
+ */
+public enum BatchMode {
+    /** Nothing is executed if a line cannot be parsed, and every change is undone if a command fails. */
+    ROLL_BACK_ON_FAILURE,
+
+    /** Failed lines are reported and skipped, and the other commands are executed. */
+    CONTINUE_ON_FAILURE
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the result of executing a batch of commands.
+ */
+public class BatchResult {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s).";
+    public static final String MESSAGE_SOME_FAILED = "Executed %1$d command(s). %2$d line(s) failed:";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made. %1$d line(s) failed:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+
+    /** Number of commands that were executed and whose changes were kept. */
+    private final int executedCount;
+
+    /** Error message of each line that failed, by line number, in line order. */
+    private final Map<Integer, String> errors;
+
+    /** Every change made by the batch was undone. */
+    private final boolean rolledBack;
+
+    /**
+     * Constructs a {@code BatchResult} with the specified fields.
+     */
+    public BatchResult(int executedCount, Map<Integer, String> errors, boolean rolledBack) {
+        requireNonNull(errors);
+        this.executedCount = executedCount;
+        this.errors = Collections.unmodifiableMap(new TreeMap<>(errors));
+        this.rolledBack = rolledBack;
+    }
+
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * Returns the error message of each line that failed, by line number, in line order.
+     */
+    public Map<Integer, String> getErrors() {
+        return errors;
+    }
+
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+
+    /**
+     * Returns a summary of the batch, followed by the error message of each line that failed.
+     */
+    public String getFeedbackToUser() {
+        if (errors.isEmpty()) {
+            return String.format(MESSAGE_SUCCESS, executedCount);
+        }
+        StringBuilder feedback = new StringBuilder(rolledBack
+                ? String.format(MESSAGE_ROLLED_BACK, errors.size())
+                : String.format(MESSAGE_SOME_FAILED, executedCount, errors.size()));
+        errors.forEach((lineNumber, message) ->
+                feedback.append('\n').append(String.format(MESSAGE_LINE_ERROR, lineNumber, message)));
+        return feedback.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return executedCount == otherBatchResult.executedCount
+                && errors.equals(otherBatchResult.errors)
+                && rolledBack == otherBatchResult.rolledBack;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(executedCount, errors, rolledBack);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("executedCount", executedCount)
+                .add("errors", errors)
+                .add("rolledBack", rolledBack)
+                .toString();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,35 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses every line of {@code commandLines}, then executes the commands in order as one batch.
+     * Blank lines and lines starting with {@code #} are skipped.
+     * <p>
+     * The changed books are saved once, after the last command, and the filtered lists report their changes once.
+     * How a line that cannot be parsed or executed is handled depends on {@code mode}; either way, the line is
+     * reported in the result rather than thrown. Any other exception is thrown after the changes made by the batch
+     * so far are saved, or, in {@link BatchMode#ROLL_BACK_ON_FAILURE} mode, undone.
+     * </p>
+     *
+     * @param commandLines The commands, one per line, as they would be entered by the user.
+     * @param mode How a line that fails is handled.
+     * @return the result of the batch, including the error of each line that failed.
+     */
+    BatchResult executeBatch(List<String> commandLines, BatchMode mode);
+
+    /**
+     * Blocks until all changes made by previously executed commands have been saved.
+     *
+     * @throws CommandException If the changes could not be saved.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Sets the handler that receives the error message whenever saving in the background fails.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
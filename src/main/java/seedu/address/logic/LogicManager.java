@@ -1,9 +1,15 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -19,8 +25,10 @@ import seedu.address.logic.parser.UnifiedCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.property.Property;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.Storage;
 
 
@@ -34,23 +42,32 @@ public class LogicManager implements Logic {
             "Could not save data to file %s due to insufficient permissions to write to the file"
                 + " or the folder.";
 
+    /** Longest time a change waits before it is written to storage. */
+    public static final long SAVE_DELAY_MILLIS = 200;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundSaver saver;
     private final CommandSetParser commandParser;
 
+    private long queuedAddressBookVersion;
+    private long queuedPropertyBookVersion;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
      * {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new BackgroundSaver(storage, SAVE_DELAY_MILLIS);
         commandParser = new UnifiedCommandParser(List.of(
                 new AddressBookParser(),
                 new PropertyBookParser()
         ));
+
+        queuedAddressBookVersion = model.getAddressBook().getVersion();
+        queuedPropertyBookVersion = model.getPropertyBook().getVersion();
     }
 
     @Override
@@ -59,18 +76,128 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = commandParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            queueChangedBooks();
+        }
+
+        if (commandResult.isExit()) {
+            flush();
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public BatchResult executeBatch(List<String> commandLines, BatchMode mode) {
+        requireAllNonNull(commandLines, mode);
+        logger.info("----------------[BATCH][" + commandLines.size() + " lines]");
+
+        // every line is parsed before any command is executed, so that all malformed lines are reported at once
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        Map<Integer, String> errors = new TreeMap<>();
+        for (int i = 0; i < commandLines.size(); i++) {
+            String commandLine = commandLines.get(i).trim();
+            if (commandLine.isEmpty() || commandLine.startsWith("#")) {
+                continue;
+            }
+            try {
+                commands.add(commandParser.parseCommand(commandLine));
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                errors.put(i + 1, pe.getMessage());
+            }
+        }
+        boolean isRollBack = mode == BatchMode.ROLL_BACK_ON_FAILURE;
+        if (isRollBack && !errors.isEmpty()) {
+            return new BatchResult(0, errors, true);
+        }
 
+        // the snapshots keep the version of the books, so restoring them also marks the books as already saved
+        queueChangedBooks();
+        ReadOnlyAddressBook addressBookBefore = isRollBack ? model.getAddressBook().getSnapshot() : null;
+        ReadOnlyPropertyBook propertyBookBefore = isRollBack ? model.getPropertyBook().getSnapshot() : null;
+
+        int executedCount = 0;
+        boolean isFinished = false;
+        model.suspendListChangeNotifications();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.savePropertyBook(model.getPropertyBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    commands.get(i).execute(model);
+                    executedCount++;
+                } catch (CommandException ce) {
+                    errors.put(lineNumbers.get(i), ce.getMessage());
+                    if (isRollBack) {
+                        return new BatchResult(0, errors, true);
+                    }
+                }
+            }
+            isFinished = true;
+        } finally {
+            // a batch cut short by a failed command or an unexpected exception is undone before anything is saved
+            if (isRollBack && !isFinished) {
+                restoreBooks(addressBookBefore, propertyBookBefore);
+            }
+            model.resumeListChangeNotifications();
+            queueChangedBooks();
+        }
+        return new BatchResult(executedCount, errors, false);
+    }
+
+    /**
+     * Replaces the books of the model that changed since {@code addressBook} and {@code propertyBook} were copied
+     * from it with those copies.
+     */
+    private void restoreBooks(ReadOnlyAddressBook addressBook, ReadOnlyPropertyBook propertyBook) {
+        if (model.getAddressBook().getVersion() != addressBook.getVersion()) {
+            model.setAddressBook(addressBook);
+        }
+        if (model.getPropertyBook().getVersion() != propertyBook.getVersion()) {
+            model.setPropertyBook(propertyBook);
+        }
+    }
+
+    @Override
+    public void flush() throws CommandException {
+        try {
+            saver.flush();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saver.setFailureHandler(ioe -> handler.accept(toCommandException(ioe).getMessage()));
+    }
+
+    /**
+     * Hands snapshots of the books whose version changed since the last call to the background saver.
+     * Commands that did not change the model are never saved. Taking a snapshot takes constant time, and the saver
+     * turns it into its stored form on its own thread.
+     */
+    private void queueChangedBooks() {
+        boolean isAddressBookChanged = model.getAddressBook().getVersion() != queuedAddressBookVersion;
+        boolean isPropertyBookChanged = model.getPropertyBook().getVersion() != queuedPropertyBookVersion;
+        if (!isAddressBookChanged && !isPropertyBookChanged) {
+            return;
+        }
+
+        ReadOnlyAddressBook addressBook = isAddressBookChanged ? model.getAddressBook().getSnapshot() : null;
+        ReadOnlyPropertyBook propertyBook = isPropertyBookChanged ? model.getPropertyBook().getSnapshot() : null;
+        queuedAddressBookVersion = model.getAddressBook().getVersion();
+        queuedPropertyBookVersion = model.getPropertyBook().getVersion();
+        saver.submit(addressBook, propertyBook);
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
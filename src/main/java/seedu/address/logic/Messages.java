@@ -14,6 +14,7 @@ import seedu.address.model.property.Property;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_UNKNOWN_COMMAND_SUGGESTIONS = MESSAGE_UNKNOWN_COMMAND + "\nDid you mean: %1$s?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX = "A contact index provided is invalid";
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_ID = "A contact ID provided is invalid";
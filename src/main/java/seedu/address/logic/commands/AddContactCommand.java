@@ -64,7 +64,7 @@ public class AddContactCommand extends Command {
         assert toAdd != null : "Contact to add should not be null";
 
         // Updating UUID of contact
-        Uuid uuid = model.getAddressBook().generateNextUuid();
+        Uuid uuid = model.generateNextContactUuid();
         assert uuid != null : "Generated UUID should not be null";
         Contact contactWithUuid = toAdd.duplicateWithNewUuid(uuid);
 
@@ -10,12 +10,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_POSTAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.contact.Contact;
 import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 
@@ -68,7 +68,7 @@ public class AddPropertyCommand extends Command {
         requireNonNull(model);
 
         // Updating UUID of property
-        Uuid uuid = model.getPropertyBook().generateNextUuid();
+        Uuid uuid = model.generateNextPropertyUuid();
         Property propertyWithUuid = toAdd.duplicateWithNewUuid(uuid);
 
         ensureOwnerExists(model, propertyWithUuid);
@@ -93,12 +93,7 @@ public class AddPropertyCommand extends Command {
             throw new CommandException(String.format(MESSAGE_OWNER_NOT_FOUND, ownerId));
         }
 
-        boolean ownerExists = model.getAddressBook().getContactList().stream()
-                .map(Contact::getUuid)
-                .filter(uuid -> uuid != null)
-                .anyMatch(uuid -> uuid.getValue() == ownerUuid);
-
-        if (!ownerExists) {
+        if (!Uuid.isValidUuid(ownerId) || model.getContactById(new Uuid(ownerUuid, CONTACT)) == null) {
             throw new CommandException(String.format(MESSAGE_OWNER_NOT_FOUND, ownerId));
         }
     }
@@ -3,10 +3,11 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
@@ -54,45 +55,42 @@ public class DeleteContactCommand extends Command {
         requireNonNull(model);
         assert targetUuid != null : "targetUuid should not be null";
 
-        List<Contact> allContacts = model.getAddressBook().getContactList();
-        assert allContacts != null : "Contact list should not be null";
+        Contact contactToDelete = model.getContactById(targetUuid);
 
-        Optional<Contact> contactToDelete = allContacts.stream()
-                .filter(p -> p.getUuid().equals(targetUuid))
-                .findFirst();
-
-        if (contactToDelete.isEmpty()) {
+        if (contactToDelete == null) {
             logger.log(Level.WARNING, "Failed to delete contact. UUID not found: {0}", targetUuid.getValue());
             throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, targetUuid.getValue()));
         }
 
-        unlinkAllLinkedProperties(model);
+        unlinkAllLinkedProperties(contactToDelete, model);
 
-        model.deleteContact(contactToDelete.get());
-        logger.log(Level.INFO, "Successfully deleted contact: {0}", contactToDelete.get().getName());
+        model.deleteContact(model.getContactById(targetUuid));
+        logger.log(Level.INFO, "Successfully deleted contact: {0}", contactToDelete.getName());
 
         showContactsView();
 
         return new CommandResult(String.format(
-                MESSAGE_DELETE_CONTACT_SUCCESS, Messages.format(contactToDelete.get())));
+                MESSAGE_DELETE_CONTACT_SUCCESS, Messages.format(contactToDelete)));
     }
 
-    private void unlinkAllLinkedProperties(Model model) {
-        model.getPropertyBook().getPropertyList().stream()
-                .filter(property -> property.getBuyingContactIds().contains(targetUuid)
-                        || property.getSellingContactIds().contains(targetUuid))
-                .forEach(property -> unlinkProperty(property, model));
-    }
+    private void unlinkAllLinkedProperties(Contact contact, Model model) {
+        List<Property> linkedProperties = Stream.concat(contact.getBuyingPropertyIds().stream(),
+                        contact.getSellingPropertyIds().stream())
+                .distinct()
+                .map(model::getPropertyById)
+                .filter(property -> property != null
+                        && (property.getBuyingContactIds().contains(targetUuid)
+                        || property.getSellingContactIds().contains(targetUuid)))
+                .collect(Collectors.toList());
+        if (linkedProperties.isEmpty()) {
+            return;
+        }
 
-    private void unlinkProperty(Property property, Model model) {
+        // all the linked properties are updated in one batch; the contact itself is about to be deleted
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptor();
-        unlinkDescriptor.setPropertyIds(Set.of(property.getUuid()));
         unlinkDescriptor.setContactIds(Set.of(targetUuid));
-        try {
-            new UnlinkCommand(unlinkDescriptor).execute(model);
-        } catch (CommandException exception) {
-            assert false; //Should not happen
-        }
+        unlinkDescriptor.setPropertyIds(linkedProperties.stream().map(Property::getUuid).collect(Collectors.toSet()));
+        model.applyBatch(List.of(), unlinkDescriptor.getUpdatedProperties(linkedProperties));
     }
 
     @Override
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -38,38 +40,39 @@ public class DeletePropertyCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Property> lastShownList = model.getFilteredPropertyList();
+        Property propertyToDelete = model.getPropertyById(targetPropertyId);
 
-        Property propertyToDelete = lastShownList.stream()
-                .filter(property -> property.getUuid().equals(targetPropertyId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID));
+        if (propertyToDelete == null || !model.isInFilteredPropertyList(propertyToDelete)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+        }
 
-        unlinkAllLinkedContacts(model);
+        unlinkAllLinkedContacts(propertyToDelete, model);
 
-        model.deleteProperty(propertyToDelete);
+        model.deleteProperty(model.getPropertyById(targetPropertyId));
 
         showPropertiesView();
 
         return new CommandResult(String.format(MESSAGE_DELETE_PROPERTY_SUCCESS, Messages.format(propertyToDelete)));
     }
 
-    private void unlinkAllLinkedContacts(Model model) {
-        model.getAddressBook().getContactList().stream()
-                .filter(contact -> contact.getBuyingPropertyIds().contains(targetPropertyId)
-                        || contact.getSellingPropertyIds().contains(targetPropertyId))
-                .forEach(contact -> unlinkContact(contact, model));
-    }
+    private void unlinkAllLinkedContacts(Property property, Model model) {
+        List<Contact> linkedContacts = Stream.concat(property.getBuyingContactIds().stream(),
+                        property.getSellingContactIds().stream())
+                .distinct()
+                .map(model::getContactById)
+                .filter(contact -> contact != null
+                        && (contact.getBuyingPropertyIds().contains(targetPropertyId)
+                        || contact.getSellingPropertyIds().contains(targetPropertyId)))
+                .collect(Collectors.toList());
+        if (linkedContacts.isEmpty()) {
+            return;
+        }
 
-    private void unlinkContact(Contact contact, Model model) {
+        // all the linked contacts are updated in one batch; the property itself is about to be deleted
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptor();
-        unlinkDescriptor.setContactIds(Set.of(contact.getUuid()));
+        unlinkDescriptor.setContactIds(linkedContacts.stream().map(Contact::getUuid).collect(Collectors.toSet()));
         unlinkDescriptor.setPropertyIds(Set.of(targetPropertyId));
-        try {
-            new UnlinkCommand(unlinkDescriptor).execute(model);
-        } catch (CommandException exception) {
-            assert false; //Should not happen
-        }
+        model.applyBatch(unlinkDescriptor.getUpdatedContacts(linkedContacts), List.of());
     }
 
     @Override
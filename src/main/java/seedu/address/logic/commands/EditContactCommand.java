@@ -10,7 +10,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -77,12 +76,11 @@ public class EditContactCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> allContacts = model.getAddressBook().getContactList();
+        Contact contactToEdit = model.getContactById(targetUuid);
 
-        Contact contactToEdit = allContacts.stream()
-                .filter(p -> p.getUuid().equals(targetUuid))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(MESSAGE_CONTACT_NOT_FOUND));
+        if (contactToEdit == null) {
+            throw new CommandException(MESSAGE_CONTACT_NOT_FOUND);
+        }
 
         Contact editedContact = createEditedContact(contactToEdit, editContactDescriptor);
 
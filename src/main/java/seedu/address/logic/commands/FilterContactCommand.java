@@ -11,14 +11,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
-import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.FilterContactPredicate;
-import seedu.address.model.uuid.Uuid;
 
 /**
  * Filters and lists all contacts in the address book that match the given {@link FilterContactPredicate}.
@@ -66,18 +61,11 @@ public class FilterContactCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        // filter all matches normally
-        Set<Uuid> allMatches = model.getFilteredContactList().stream()
-                .filter(predicate)
-                .toList()
-                .stream()
-                .map(Contact::getUuid)
-                .collect(Collectors.toSet());
-
-        model.updateFilteredContactList(c -> allMatches.contains(c.getUuid()));
+        // the shown contacts are tested, or looked up in the text index while every contact is shown
+        model.narrowFilteredContactList(predicate);
 
         // Build output message (e.g., “12 properties matched”)
-        String msg = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, allMatches.size());
+        String msg = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, model.getFilteredContactList().size());
 
         showContactsView();
 
@@ -5,20 +5,23 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BATHROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BEDROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_BATHROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_BEDROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_BATHROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_BEDROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_OWNER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_POSTAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.property.Property;
 import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
-import seedu.address.model.uuid.Uuid;
 
 /**
  * Filters properties using various optional attributes with pagination.
@@ -38,7 +41,15 @@ public class FilterPropertyCommand extends Command {
             + "[" + PREFIX_PROPERTY_FLOOR_AREA + "FLOORAREA] "
             + "[" + PREFIX_PROPERTY_STATUS + "STATUS] "
             + "[" + PREFIX_PROPERTY_PRICE + "PRICE] "
-            + "[" + PREFIX_PROPERTY_OWNER + "CONTACT_ID]\n"
+            + "[" + PREFIX_PROPERTY_OWNER + "CONTACT_ID] "
+            + "[" + PREFIX_PROPERTY_MIN_PRICE + "MIN_PRICE] "
+            + "[" + PREFIX_PROPERTY_MAX_PRICE + "MAX_PRICE] "
+            + "[" + PREFIX_PROPERTY_MIN_FLOOR_AREA + "MIN_FLOORAREA] "
+            + "[" + PREFIX_PROPERTY_MAX_FLOOR_AREA + "MAX_FLOORAREA] "
+            + "[" + PREFIX_PROPERTY_MIN_BEDROOM + "MIN_BEDROOM] "
+            + "[" + PREFIX_PROPERTY_MAX_BEDROOM + "MAX_BEDROOM] "
+            + "[" + PREFIX_PROPERTY_MIN_BATHROOM + "MIN_BATHROOM] "
+            + "[" + PREFIX_PROPERTY_MAX_BATHROOM + "MAX_BATHROOM]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PROPERTY_POSTAL + "123000 "
             + PREFIX_PROPERTY_BEDROOM + "2 "
@@ -58,16 +69,10 @@ public class FilterPropertyCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Set<Uuid> allMatches = model.getFilteredPropertyList().stream()
-                .filter(predicate)
-                .toList()
-                .stream()
-                .map(Property::getUuid)
-                .collect(Collectors.toSet());
-
-        int total = allMatches.size();
+        // the shown properties are tested, or looked up in the attribute indexes while every property is shown
+        model.narrowFilteredPropertyList(predicate);
 
-        model.updateFilteredPropertyList(p -> allMatches.contains(p.getUuid()));
+        int total = model.getFilteredPropertyList().size();
 
         // Build “X properties matched”
         String msg = String.format("%d properties matched", total);
@@ -14,7 +14,6 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -62,23 +61,17 @@ public class LinkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> lastShownContactList = model.getFilteredContactList();
-        List<Property> lastShownPropertyList = model.getFilteredPropertyList();
+        List<Contact> targetContacts = linkDescriptor.getContactsInModel(model);
+        List<Property> targetProperties = linkDescriptor.getPropertiesInModel(model);
 
-        linkDescriptor.throwExceptionIfLinked(lastShownContactList, lastShownPropertyList);
+        linkDescriptor.throwExceptionIfLinked(targetContacts, targetProperties);
 
-        linkDescriptor.throwExceptionIfAnyPropertyIsUnavailable(lastShownPropertyList);
+        linkDescriptor.throwExceptionIfAnyPropertyIsUnavailable(targetProperties);
 
-        List<Contact> targetContacts = linkDescriptor.getContactsInList(lastShownContactList);
-        List<Property> targetProperties = linkDescriptor.getPropertiesInList(lastShownPropertyList);
+        List<Contact> updatedContacts = linkDescriptor.getUpdatedContacts(targetContacts);
+        List<Property> updatedProperties = linkDescriptor.getUpdatedProperties(targetProperties);
 
-        List<Contact> updatedContacts = linkDescriptor.getUpdatedContacts(lastShownContactList);
-        List<Property> updatedProperties = linkDescriptor.getUpdatedProperties(lastShownPropertyList);
-
-        Stream.iterate(0, x -> x < targetContacts.size(), x -> x + 1)
-                .forEach(i -> model.setContact(targetContacts.get(i), updatedContacts.get(i)));
-        Stream.iterate(0, x -> x < targetProperties.size(), x -> x + 1)
-                .forEach(i -> model.setProperty(targetProperties.get(i), updatedProperties.get(i)));
+        model.applyBatch(updatedContacts, updatedProperties);
 
         logger.log(Level.FINER, "Successfully linked contacts to properties as {0}",
                 linkDescriptor.getRelationship());
@@ -163,61 +156,58 @@ public class LinkCommand extends Command {
         }
 
         /**
-         * Returns the {@code List<Contact>} in the list with all matching contactIds.
+         * Returns the contacts with the matching contactIds, looked up by ID in {@code model}.
          *
-         * @throws CommandException if any contact is not found in the list.
+         * @throws CommandException if any contact does not exist or is not shown in the filtered contact list.
          */
-        public List<Contact> getContactsInList(List<Contact> contactList) throws CommandException {
-            assert (contactList != null);
-            List<Contact> contactsList = new ArrayList<>(contactList).stream()
-                    .filter(contact -> contactIds.contains(contact.getUuid()))
-                    .collect(Collectors.toList());
-            if (contactsList.size() != contactIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
+        public List<Contact> getContactsInModel(Model model) throws CommandException {
+            assert (model != null);
+            List<Contact> contacts = new ArrayList<>(contactIds.size());
+            for (Uuid contactId : contactIds) {
+                Contact contact = model.getContactById(contactId);
+                if (contact == null || !model.isInFilteredContactList(contact)) {
+                    throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
+                }
+                contacts.add(contact);
             }
-            return contactsList;
+            return contacts;
         }
 
         /**
-         * Returns the {@code List<Property>} in the list with the matching propertyId.
+         * Returns the properties with the matching propertyIds, looked up by ID in {@code model}.
          *
-         * @throws CommandException if any property is not found in the list.
+         * @throws CommandException if any property does not exist or is not shown in the filtered property list.
          */
-        public List<Property> getPropertiesInList(List<Property> propertyList) throws CommandException {
-            assert (propertyList != null);
-            List<Property> propertiesList = new ArrayList<>(propertyList).stream()
-                    .filter(property -> propertyIds.contains(property.getUuid()))
-                    .collect(Collectors.toList());
-            if (propertiesList.size() != propertyIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+        public List<Property> getPropertiesInModel(Model model) throws CommandException {
+            assert (model != null);
+            List<Property> properties = new ArrayList<>(propertyIds.size());
+            for (Uuid propertyId : propertyIds) {
+                Property property = model.getPropertyById(propertyId);
+                if (property == null || !model.isInFilteredPropertyList(property)) {
+                    throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+                }
+                properties.add(property);
             }
-            return propertiesList;
+            return properties;
         }
 
         /**
-         * Returns an edited {@code List<Contact>} with the properties linked.
+         * Returns an edited copy of {@code contactsToEdit} with the properties linked.
          *
          * @throws CommandException if the relationship is invalid.
          */
-        public List<Contact> getUpdatedContacts(List<Contact> contactList) throws CommandException {
+        public List<Contact> getUpdatedContacts(List<Contact> contactsToEdit) throws CommandException {
             assert (relationship != null);
-            List<Contact> contactsToEdit = new ArrayList<>(getContactsInList(contactList));
             switch (relationship) {
             case "buyer":
                 return contactsToEdit.stream()
                         .map(contactToEdit -> contactToEdit
-                        .duplicateWithNewBuyingPropertyIds(
-                        Stream.concat(contactToEdit.getBuyingPropertyIds().stream(), propertyIds.stream())
-                        .distinct()
-                        .collect(Collectors.toSet())))
+                        .duplicateWithNewBuyingPropertyIds(contactToEdit.getBuyingPropertyIds().withAll(propertyIds)))
                         .collect(Collectors.toList());
             case "seller":
                 return contactsToEdit.stream()
                         .map(contactToEdit -> contactToEdit
-                        .duplicateWithNewSellingPropertyIds(
-                        Stream.concat(contactToEdit.getSellingPropertyIds().stream(), propertyIds.stream())
-                        .distinct()
-                        .collect(Collectors.toSet())))
+                        .duplicateWithNewSellingPropertyIds(contactToEdit.getSellingPropertyIds().withAll(propertyIds)))
                         .collect(Collectors.toList());
             default:
                 throw new CommandException(Messages.MESSAGE_INVALID_RELATIONSHIP);
@@ -225,30 +215,23 @@ public class LinkCommand extends Command {
         }
 
         /**
-         * Returns an edited {@code List<Property>} with the contacts linked.
+         * Returns an edited copy of {@code propertiesToEdit} with the contacts linked.
          *
          * @throws CommandException if the relationship is invalid.
          */
-        public List<Property> getUpdatedProperties(List<Property> propertyList)
+        public List<Property> getUpdatedProperties(List<Property> propertiesToEdit)
                 throws CommandException {
             assert (relationship != null);
-            List<Property> propertiesToEdit = new ArrayList<>(getPropertiesInList(propertyList));
             switch (relationship) {
             case "buyer":
                 return propertiesToEdit.stream()
                         .map(propertyToEdit -> propertyToEdit
-                        .duplicateWithNewBuyingContactIds(
-                        Stream.concat(propertyToEdit.getBuyingContactIds().stream(), contactIds.stream())
-                        .distinct()
-                        .collect(Collectors.toSet())))
+                        .duplicateWithNewBuyingContactIds(propertyToEdit.getBuyingContactIds().withAll(contactIds)))
                         .collect(Collectors.toList());
             case "seller":
                 return propertiesToEdit.stream()
                         .map(propertyToEdit -> propertyToEdit
-                        .duplicateWithNewSellingContactIds(
-                        Stream.concat(propertyToEdit.getSellingContactIds().stream(), contactIds.stream())
-                        .distinct()
-                        .collect(Collectors.toSet())))
+                        .duplicateWithNewSellingContactIds(propertyToEdit.getSellingContactIds().withAll(contactIds)))
                         .collect(Collectors.toList());
             default:
                 throw new CommandException(Messages.MESSAGE_INVALID_RELATIONSHIP);
@@ -258,18 +241,16 @@ public class LinkCommand extends Command {
         /**
          * @throws CommandException if any of the related contacts and properties are already linked.
          */
-        public void throwExceptionIfLinked(List<Contact> contactList, List<Property> propertyList)
+        public void throwExceptionIfLinked(List<Contact> targetContacts, List<Property> targetProperties)
                 throws CommandException {
-            List<Contact> filteredContacts = new ArrayList<>(getContactsInList(contactList));
-            List<Property> filteredProperties = new ArrayList<>(getPropertiesInList(propertyList));
-            boolean hasAnyContactLinkedAsBuyer = filteredContacts.stream()
-                    .anyMatch(contact -> !Collections.disjoint(propertyIds, contact.getBuyingPropertyIds()));
-            boolean hasAnyContactLinkedAsSeller = filteredContacts.stream()
-                    .anyMatch(contact -> !Collections.disjoint(propertyIds, contact.getSellingPropertyIds()));
-            boolean hasAnyPropertyLinkedByBuyer = filteredProperties.stream()
-                    .anyMatch(property -> !Collections.disjoint(contactIds, property.getBuyingContactIds()));
-            boolean hasAnyPropertyLinkedBySeller = filteredProperties.stream()
-                    .anyMatch(property -> !Collections.disjoint(contactIds, property.getSellingContactIds()));
+            boolean hasAnyContactLinkedAsBuyer = targetContacts.stream()
+                    .anyMatch(contact -> !Collections.disjoint(contact.getBuyingPropertyIds(), propertyIds));
+            boolean hasAnyContactLinkedAsSeller = targetContacts.stream()
+                    .anyMatch(contact -> !Collections.disjoint(contact.getSellingPropertyIds(), propertyIds));
+            boolean hasAnyPropertyLinkedByBuyer = targetProperties.stream()
+                    .anyMatch(property -> !Collections.disjoint(property.getBuyingContactIds(), contactIds));
+            boolean hasAnyPropertyLinkedBySeller = targetProperties.stream()
+                    .anyMatch(property -> !Collections.disjoint(property.getSellingContactIds(), contactIds));
             if (hasAnyContactLinkedAsBuyer || hasAnyPropertyLinkedByBuyer) {
                 throw new CommandException(Messages.MESSAGE_LINKING_ALREADY_LINKED_BUYER);
             }
@@ -278,8 +259,9 @@ public class LinkCommand extends Command {
             }
         }
 
-        private void throwExceptionIfAnyPropertyIsUnavailable(List<Property> propertyList) throws CommandException {
-            if (getPropertiesInList(propertyList).stream().anyMatch(property -> property.getStatus().isUnavailable())) {
+        private void throwExceptionIfAnyPropertyIsUnavailable(List<Property> targetProperties)
+                throws CommandException {
+            if (targetProperties.stream().anyMatch(property -> property.getStatus().isUnavailable())) {
                 throw new CommandException(Messages.MESSAGE_LINKING_TO_UNAVAILABLE_PROPERTY);
             }
         }
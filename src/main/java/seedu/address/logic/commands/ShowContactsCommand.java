@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.contact.predicates.AssociatedWithPropertyPredicate;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -45,10 +44,8 @@ public class ShowContactsCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Create predicate using all properties in the model
-        AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(propertyUuid, model.getPropertyBook().getPropertyList());
-        model.updateFilteredContactList(predicate);
+        // Show the contacts that own, buy or sell the property, looked up through its links
+        model.showContactsAssociatedWith(propertyUuid);
 
         // Switch view to show contacts
         showContactsView();
@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.property.predicates.AssociatedWithContactPredicate;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.ui.MainWindow;
 
@@ -49,9 +48,8 @@ public class ShowPropertiesCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Filter properties where owner matches the contact UUID
-        AssociatedWithContactPredicate predicate = new AssociatedWithContactPredicate(contactUuid);
-        model.updateFilteredPropertyList(predicate);
+        // Show the properties that the contact owns, buys or sells, looked up through its links
+        model.showPropertiesAssociatedWith(contactUuid);
 
         //Toggle from contacts list to property list
         if (MainWindow.getInstance() != null) {
@@ -13,7 +13,6 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -57,21 +56,15 @@ public class UnlinkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> lastShownContactList = model.getFilteredContactList();
-        List<Property> lastShownPropertyList = model.getFilteredPropertyList();
+        List<Contact> targetContacts = unlinkDescriptor.getContactsInModel(model);
+        List<Property> targetProperties = unlinkDescriptor.getPropertiesInModel(model);
 
-        unlinkDescriptor.throwExceptionIfUnlinked(lastShownContactList, lastShownPropertyList);
+        unlinkDescriptor.throwExceptionIfUnlinked(targetContacts, targetProperties);
 
-        List<Contact> targetContacts = unlinkDescriptor.getContactsInList(lastShownContactList);
-        List<Property> targetProperties = unlinkDescriptor.getPropertiesInList(lastShownPropertyList);
+        List<Contact> updatedContacts = unlinkDescriptor.getUpdatedContacts(targetContacts);
+        List<Property> updatedProperties = unlinkDescriptor.getUpdatedProperties(targetProperties);
 
-        List<Contact> updatedContacts = unlinkDescriptor.getUpdatedContacts(lastShownContactList);
-        List<Property> updatedProperties = unlinkDescriptor.getUpdatedProperties(lastShownPropertyList);
-
-        Stream.iterate(0, x -> x < targetContacts.size(), x -> x + 1)
-                .forEach(i -> model.setContact(targetContacts.get(i), updatedContacts.get(i)));
-        Stream.iterate(0, x -> x < targetProperties.size(), x -> x + 1)
-                .forEach(i -> model.setProperty(targetProperties.get(i), updatedProperties.get(i)));
+        model.applyBatch(updatedContacts, updatedProperties);
 
         logger.log(Level.FINER, "Successfully unlinked contacts and properties");
 
@@ -135,82 +128,74 @@ public class UnlinkCommand extends Command {
         }
 
         /**
-         * Returns the {@code List<Contact>} in the list with all matching contactIds.
+         * Returns the contacts with the matching contactIds, looked up by ID in {@code model}.
          *
-         * @throws CommandException if any contact is not found in the list.
+         * @throws CommandException if any contact does not exist or is not shown in the filtered contact list.
          */
-        public List<Contact> getContactsInList(List<Contact> contactList) throws CommandException {
-            assert (contactList != null);
-            List<Contact> contactsList = new ArrayList<>(contactList).stream()
-                    .filter(contact -> contactIds.contains(contact.getUuid()))
-                    .collect(Collectors.toList());
-            if (contactsList.size() != contactIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
+        public List<Contact> getContactsInModel(Model model) throws CommandException {
+            assert (model != null);
+            List<Contact> contacts = new ArrayList<>(contactIds.size());
+            for (Uuid contactId : contactIds) {
+                Contact contact = model.getContactById(contactId);
+                if (contact == null || !model.isInFilteredContactList(contact)) {
+                    throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
+                }
+                contacts.add(contact);
             }
-            return contactsList;
+            return contacts;
         }
 
         /**
-         * Returns the {@code List<Property>} in the list with the matching propertyId.
+         * Returns the properties with the matching propertyIds, looked up by ID in {@code model}.
          *
-         * @throws CommandException if any property is not found in the list.
+         * @throws CommandException if any property does not exist or is not shown in the filtered property list.
          */
-        public List<Property> getPropertiesInList(List<Property> propertyList) throws CommandException {
-            assert (propertyList != null);
-            List<Property> propertiesList = new ArrayList<>(propertyList).stream()
-                    .filter(property -> propertyIds.contains(property.getUuid()))
-                    .collect(Collectors.toList());
-            if (propertiesList.size() != propertyIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+        public List<Property> getPropertiesInModel(Model model) throws CommandException {
+            assert (model != null);
+            List<Property> properties = new ArrayList<>(propertyIds.size());
+            for (Uuid propertyId : propertyIds) {
+                Property property = model.getPropertyById(propertyId);
+                if (property == null || !model.isInFilteredPropertyList(property)) {
+                    throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+                }
+                properties.add(property);
             }
-            return propertiesList;
+            return properties;
         }
 
         /**
-         * Returns an edited {@code List<Contact>} with the properties unlinked.
+         * Returns an edited copy of {@code contactsToEdit} with the properties unlinked.
          */
-        public List<Contact> getUpdatedContacts(List<Contact> contactList) throws CommandException {
-            List<Contact> contactsToEdit = getContactsInList(contactList);
-            return new ArrayList<>(contactsToEdit).stream()
+        public List<Contact> getUpdatedContacts(List<Contact> contactsToEdit) {
+            return contactsToEdit.stream()
                     .map(contactToEdit -> contactToEdit
-                    .duplicateWithNewBuyingPropertyIds(
-                    contactToEdit.getBuyingPropertyIds().stream().filter(id -> !propertyIds.contains(id))
-                    .collect(Collectors.toSet()))
-                    .duplicateWithNewSellingPropertyIds(
-                    contactToEdit.getSellingPropertyIds().stream().filter(id -> !propertyIds.contains(id))
-                    .collect(Collectors.toSet())))
+                    .duplicateWithNewBuyingPropertyIds(contactToEdit.getBuyingPropertyIds().withoutAll(propertyIds))
+                    .duplicateWithNewSellingPropertyIds(contactToEdit.getSellingPropertyIds().withoutAll(propertyIds)))
                     .collect(Collectors.toList());
         }
 
         /**
-         * Returns an edited {@code List<Property>} with the contacts unlinked.
+         * Returns an edited copy of {@code propertiesToEdit} with the contacts unlinked.
          */
-        public List<Property> getUpdatedProperties(List<Property> propertyList) throws CommandException {
-            List<Property> propertiesToEdit = getPropertiesInList(propertyList);
-            return new ArrayList<>(propertiesToEdit).stream()
+        public List<Property> getUpdatedProperties(List<Property> propertiesToEdit) {
+            return propertiesToEdit.stream()
                     .map(propertyToEdit -> propertyToEdit
-                    .duplicateWithNewBuyingContactIds(
-                    propertyToEdit.getBuyingContactIds().stream().filter(id -> !contactIds.contains(id))
-                    .collect(Collectors.toSet()))
-                    .duplicateWithNewSellingContactIds(
-                    propertyToEdit.getSellingContactIds().stream().filter(id -> !contactIds.contains(id))
-                    .collect(Collectors.toSet())))
+                    .duplicateWithNewBuyingContactIds(propertyToEdit.getBuyingContactIds().withoutAll(contactIds))
+                    .duplicateWithNewSellingContactIds(propertyToEdit.getSellingContactIds().withoutAll(contactIds)))
                     .collect(Collectors.toList());
         }
 
         /**
          * @throws CommandException if any of the related contacts and properties are already unlinked.
          */
-        public void throwExceptionIfUnlinked(List<Contact> contactList, List<Property> propertyList)
+        public void throwExceptionIfUnlinked(List<Contact> targetContacts, List<Property> targetProperties)
                 throws CommandException {
-            List<Contact> filteredContacts = new ArrayList<>(getContactsInList(contactList));
-            List<Property> filteredProperties = new ArrayList<>(getPropertiesInList(propertyList));
-            boolean hasAnyContactUnlinked = filteredContacts.stream()
-                    .anyMatch(contact -> Collections.disjoint(propertyIds, contact.getBuyingPropertyIds())
-                            && Collections.disjoint(propertyIds, contact.getSellingPropertyIds()));
-            boolean hasAnyPropertyUnlinked = filteredProperties.stream()
-                    .anyMatch(property -> Collections.disjoint(contactIds, property.getBuyingContactIds())
-                            && Collections.disjoint(contactIds, property.getSellingContactIds()));
+            boolean hasAnyContactUnlinked = targetContacts.stream()
+                    .anyMatch(contact -> Collections.disjoint(contact.getBuyingPropertyIds(), propertyIds)
+                            && Collections.disjoint(contact.getSellingPropertyIds(), propertyIds));
+            boolean hasAnyPropertyUnlinked = targetProperties.stream()
+                    .anyMatch(property -> Collections.disjoint(property.getBuyingContactIds(), contactIds)
+                            && Collections.disjoint(property.getSellingContactIds(), contactIds));
             if (hasAnyContactUnlinked || hasAnyPropertyUnlinked) {
                 throw new CommandException(Messages.MESSAGE_UNLINKING_ALREADY_UNLINKED);
             }
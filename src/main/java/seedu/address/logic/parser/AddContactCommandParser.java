@@ -35,6 +35,10 @@ public class AddContactCommandParser implements Parser<AddContactCommand> {
     public static final String NAME_MISSING = "Name parameter (" + PREFIX_NAME + "NAME) is missing.\n";
     public static final String PHONE_MISSING = "Phone parameter (" + PREFIX_PHONE + "PHONE) is missing.\n";
     public static final String BUDGET_MAX_MORE_THAN_MIN_ERROR = "Budget maximum cannot be lesser than budget minimum.";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_BUDGET_MIN, PREFIX_BUDGET_MAX, PREFIX_NOTES, PREFIX_STATUS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddContactCommand
      * and returns an AddContactCommand object for execution.
@@ -42,11 +46,7 @@ public class AddContactCommandParser implements Parser<AddContactCommand> {
      */
     @Override
     public AddContactCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                                                                  PREFIX_EMAIL, PREFIX_ADDRESS,
-                                                                  PREFIX_BUDGET_MIN,
-                                                                  PREFIX_BUDGET_MAX, PREFIX_NOTES,
-                                                                  PREFIX_STATUS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         validateRequiredPrefixesPresent(argMultimap);
 
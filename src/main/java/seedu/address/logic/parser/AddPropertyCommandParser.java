@@ -44,6 +44,10 @@ public class AddPropertyCommandParser implements Parser<AddPropertyCommand> {
             + "FLOOR_AREA) is missing.\n";
     public static final String OWNER_MISSING = "Owner parameter (" + PREFIX_PROPERTY_OWNER + "OWNER) is missing.\n";
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PROPERTY_ADDRESS,
+            PREFIX_PROPERTY_POSTAL, PREFIX_PROPERTY_PRICE, PREFIX_PROPERTY_TYPE, PREFIX_PROPERTY_STATUS,
+            PREFIX_PROPERTY_BEDROOM, PREFIX_PROPERTY_BATHROOM, PREFIX_PROPERTY_FLOOR_AREA, PREFIX_PROPERTY_OWNER);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * AddPropertyCommand
@@ -53,11 +57,7 @@ public class AddPropertyCommandParser implements Parser<AddPropertyCommand> {
      */
     @Override
     public AddPropertyCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROPERTY_ADDRESS,
-                PREFIX_PROPERTY_POSTAL,
-                PREFIX_PROPERTY_PRICE, PREFIX_PROPERTY_TYPE, PREFIX_PROPERTY_STATUS,
-                PREFIX_PROPERTY_BEDROOM, PREFIX_PROPERTY_BATHROOM, PREFIX_PROPERTY_FLOOR_AREA,
-                PREFIX_PROPERTY_OWNER);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         String missingPrefix = validateRequiredPrefixesPresent(argMultimap);
         if (missingPrefix != null) {
@@ -1,13 +1,9 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static java.util.Map.entry;
 
-import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddContactCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
@@ -20,80 +16,26 @@ import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ShowContactsCommand;
 import seedu.address.logic.commands.UnlinkCommand;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.logic.parser.exceptions.UnknownCommandParseException;
 
 /**
  * Parses user input.
  */
-public class AddressBookParser implements CommandSetParser {
-
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
-
-    /**
-     * Parses user input into command for execution.
-     *
-     * @param userInput full user input string
-     * @return the command based on the user input
-     * @throws ParseException if the user input does not conform the expected format
-     */
-    @Override
-    public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
-        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
-        // log messages such as the one below. Lower level log messages are used sparingly to minimize noise in the
-        // code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddContactCommand.COMMAND_WORD:
-            return new AddContactCommandParser().parse(arguments);
-
-        case EditContactCommand.COMMAND_WORD:
-            return new EditContactCommandParser().parse(arguments);
-
-        case DeleteContactCommand.COMMAND_WORD:
-            return new DeleteContactCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FilterContactCommand.COMMAND_WORD:
-            return new FilterContactCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case LinkCommand.COMMAND_WORD:
-            return new LinkCommandParser().parse(arguments);
-
-        case UnlinkCommand.COMMAND_WORD:
-            return new UnlinkCommandParser().parse(arguments);
-
-        case ShowContactsCommand.COMMAND_WORD:
-            return new ShowContactsCommandParser().parse(arguments);
-
-        default:
-            throw new UnknownCommandParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+public class AddressBookParser extends CommandTableParser {
+
+    private static final Map<String, Parser<? extends Command>> COMMAND_PARSERS = Map.ofEntries(
+            entry(AddContactCommand.COMMAND_WORD, new AddContactCommandParser()),
+            entry(EditContactCommand.COMMAND_WORD, new EditContactCommandParser()),
+            entry(DeleteContactCommand.COMMAND_WORD, new DeleteContactCommandParser()),
+            entry(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand()),
+            entry(FilterContactCommand.COMMAND_WORD, new FilterContactCommandParser()),
+            entry(ListCommand.COMMAND_WORD, arguments -> new ListCommand()),
+            entry(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()),
+            entry(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand()),
+            entry(LinkCommand.COMMAND_WORD, new LinkCommandParser()),
+            entry(UnlinkCommand.COMMAND_WORD, new UnlinkCommandParser()),
+            entry(ShowContactsCommand.COMMAND_WORD, new ShowContactsCommandParser()));
+
+    public AddressBookParser() {
+        super(COMMAND_PARSERS);
     }
-
 }
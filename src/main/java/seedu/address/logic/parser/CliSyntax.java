@@ -35,6 +35,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_PROPERTY_OWNER = new Prefix("o/");
     public static final Prefix PREFIX_PROPERTY_PRICE = new Prefix("price/");
     public static final Prefix PREFIX_PROPERTY_TYPE = new Prefix("t/");
+    public static final Prefix PREFIX_PROPERTY_MIN_PRICE = new Prefix("minprice/");
+    public static final Prefix PREFIX_PROPERTY_MAX_PRICE = new Prefix("maxprice/");
+    public static final Prefix PREFIX_PROPERTY_MIN_FLOOR_AREA = new Prefix("minf/");
+    public static final Prefix PREFIX_PROPERTY_MAX_FLOOR_AREA = new Prefix("maxf/");
+    public static final Prefix PREFIX_PROPERTY_MIN_BEDROOM = new Prefix("minbed/");
+    public static final Prefix PREFIX_PROPERTY_MAX_BEDROOM = new Prefix("maxbed/");
+    public static final Prefix PREFIX_PROPERTY_MIN_BATHROOM = new Prefix("minbath/");
+    public static final Prefix PREFIX_PROPERTY_MAX_BATHROOM = new Prefix("maxbath/");
 
     /* Prefix definitions for linking */
     public static final Prefix PREFIX_PROPERTY_ID = new Prefix("p/");
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.Map;
+
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -9,4 +11,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public interface CommandSetParser {
     Command parseCommand(String userInput) throws ParseException;
+
+    /**
+     * Returns the parsers for the command words recognised by this parser, keyed by command word.
+     */
+    Map<String, Parser<? extends Command>> getCommandParsers();
 }
@@ -0,0 +1,122 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTIONS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.exceptions.UnknownCommandParseException;
+
+/**
+ * Parses user input by looking up its command word in a table of command parsers, built once on construction.
+ * <p>
+ * The command word is separated from its arguments in a single pass over the input, and the parser for it is
+ * found with one lookup. Unknown command words are answered with suggestions drawn from the same table.
+ * </p>
+ */
+public abstract class CommandTableParser implements CommandSetParser {
+
+    /** Largest number of single-character edits between an unknown command word and a suggested one. */
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+
+    private final Logger logger = LogsCenter.getLogger(getClass());
+    private final Map<String, Parser<? extends Command>> commandParsers;
+
+    /**
+     * Creates a parser that dispatches each command word in {@code commandParsers} to its parser.
+     */
+    protected CommandTableParser(Map<String, Parser<? extends Command>> commandParsers) {
+        this.commandParsers = Map.copyOf(requireNonNull(commandParsers));
+    }
+
+    @Override
+    public Map<String, Parser<? extends Command>> getCommandParsers() {
+        return commandParsers;
+    }
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public Command parseCommand(String userInput) throws ParseException {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+
+        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
+        // log messages such as the one below. Lower level log messages are used sparingly to minimize noise in the
+        // code.
+        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+
+        Parser<? extends Command> parser = commandParsers.get(commandWord);
+        if (parser == null) {
+            throw new UnknownCommandParseException(getUnknownCommandMessage(commandWord));
+        }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns the message for an unknown {@code commandWord}, suggesting the command words in the table that it is
+     * the start of, or that are within {@link #MAX_SUGGESTION_DISTANCE} edits of it.
+     */
+    private String getUnknownCommandMessage(String commandWord) {
+        List<String> suggestions = new ArrayList<>();
+        for (String knownWord : commandParsers.keySet()) {
+            if (knownWord.startsWith(commandWord)
+                    || getEditDistance(commandWord, knownWord) <= MAX_SUGGESTION_DISTANCE) {
+                suggestions.add(knownWord);
+            }
+        }
+        if (suggestions.isEmpty()) {
+            return MESSAGE_UNKNOWN_COMMAND;
+        }
+        Collections.sort(suggestions);
+        return String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTIONS, String.join(", ", suggestions));
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions and substitutions that turn {@code first} into
+     * {@code second}.
+     */
+    private static int getEditDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+}
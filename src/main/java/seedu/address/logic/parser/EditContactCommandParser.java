@@ -21,6 +21,9 @@ import seedu.address.model.uuid.Uuid;
  */
 public class EditContactCommandParser implements Parser<EditContactCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_BUDGET_MIN, PREFIX_BUDGET_MAX, PREFIX_NOTES, PREFIX_STATUS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditContactCommand
      * and returns an EditContactCommand object for execution.
@@ -28,10 +31,7 @@ public class EditContactCommandParser implements Parser<EditContactCommand> {
      */
     public EditContactCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                                    PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_BUDGET_MIN,
-                                     PREFIX_BUDGET_MAX, PREFIX_NOTES, PREFIX_STATUS
-        );
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         String preamble = argMultimap.getPreamble().trim();
         if (preamble.isEmpty()) {
@@ -41,6 +41,7 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
             PREFIX_BUDGET_MIN, PREFIX_BUDGET_MAX,
             PREFIX_NOTES, PREFIX_STATUS
     ));
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(VALID_PREFIXES.toArray(new Prefix[0]));
 
     /**
      * Parses the given {@code String} of arguments and returns a {@link FilterContactCommand}
@@ -52,8 +53,7 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
      */
     @Override
     public FilterContactCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, VALID_PREFIXES.toArray(new Prefix[0]));
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         // if there is extra words before the first prefix or wrong prefix is the first
         // example: filtercontact abc n/bob
@@ -5,6 +5,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BATHROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BEDROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_BATHROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_BEDROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_BATHROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_BEDROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_OWNER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_POSTAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_PRICE;
@@ -14,6 +22,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FilterPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -32,6 +41,17 @@ import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
  */
 public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand> {
 
+    public static final String MESSAGE_INVALID_RANGE = "The minimum %1$s cannot be greater than the maximum %1$s.";
+
+    private static final List<Prefix> VALID_PREFIXES = List.of(
+            PREFIX_PROPERTY_ADDRESS, PREFIX_PROPERTY_POSTAL, PREFIX_PROPERTY_TYPE, PREFIX_PROPERTY_BEDROOM,
+            PREFIX_PROPERTY_BATHROOM, PREFIX_PROPERTY_FLOOR_AREA, PREFIX_PROPERTY_PRICE, PREFIX_PROPERTY_STATUS,
+            PREFIX_PROPERTY_OWNER, PREFIX_PROPERTY_MIN_PRICE, PREFIX_PROPERTY_MAX_PRICE,
+            PREFIX_PROPERTY_MIN_FLOOR_AREA, PREFIX_PROPERTY_MAX_FLOOR_AREA, PREFIX_PROPERTY_MIN_BEDROOM,
+            PREFIX_PROPERTY_MAX_BEDROOM, PREFIX_PROPERTY_MIN_BATHROOM, PREFIX_PROPERTY_MAX_BATHROOM
+    );
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(VALID_PREFIXES.toArray(new Prefix[0]));
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterPropertyCommand
      * and returns an FilterPropertyCommand object for execution.
@@ -53,14 +73,8 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
                 .map(s -> s.substring(0, s.indexOf("/") + 1))
                 .toList();
 
-        List<Prefix> validPrefixes = List.of(
-                PREFIX_PROPERTY_ADDRESS, PREFIX_PROPERTY_POSTAL, PREFIX_PROPERTY_TYPE, PREFIX_PROPERTY_BEDROOM,
-                PREFIX_PROPERTY_BATHROOM, PREFIX_PROPERTY_FLOOR_AREA, PREFIX_PROPERTY_PRICE, PREFIX_PROPERTY_STATUS,
-                PREFIX_PROPERTY_OWNER
-        );
-
         List<String> invalidPrefixes = detectedPrefixes.stream()
-                .filter(p -> validPrefixes.stream().map(Prefix::getPrefix).noneMatch(x -> x.equals(p)))
+                .filter(p -> VALID_PREFIXES.stream().map(Prefix::getPrefix).noneMatch(x -> x.equals(p)))
                 .toList();
 
         if (!invalidPrefixes.isEmpty()) {
@@ -68,14 +82,14 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
                     FilterPropertyCommand.MESSAGE_USAGE));
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, validPrefixes.toArray(new Prefix[0]));
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!argMultimap.getPreamble().trim().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FilterPropertyCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(validPrefixes.toArray(new Prefix[0]));
+        argMultimap.verifyNoDuplicatePrefixesFor(VALID_PREFIXES.toArray(new Prefix[0]));
 
         PropertyMatchesFilterPredicate.Builder builder = new PropertyMatchesFilterPredicate.Builder();
 
@@ -161,6 +175,63 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
             builder.withOwner(t);
         }
 
+        Optional<String> minPrice = parseBound(argMultimap, PREFIX_PROPERTY_MIN_PRICE,
+                Price::isValidPrice, Price.MESSAGE_CONSTRAINTS);
+        Optional<String> maxPrice = parseBound(argMultimap, PREFIX_PROPERTY_MAX_PRICE,
+                Price::isValidPrice, Price.MESSAGE_CONSTRAINTS);
+        verifyRange(minPrice, maxPrice, "price");
+        minPrice.ifPresent(builder::withMinPrice);
+        maxPrice.ifPresent(builder::withMaxPrice);
+
+        Optional<String> minFloorArea = parseBound(argMultimap, PREFIX_PROPERTY_MIN_FLOOR_AREA,
+                FloorArea::isValidFloorArea, FloorArea.MESSAGE_CONSTRAINTS);
+        Optional<String> maxFloorArea = parseBound(argMultimap, PREFIX_PROPERTY_MAX_FLOOR_AREA,
+                FloorArea::isValidFloorArea, FloorArea.MESSAGE_CONSTRAINTS);
+        verifyRange(minFloorArea, maxFloorArea, "floor area");
+        minFloorArea.ifPresent(builder::withMinFloorArea);
+        maxFloorArea.ifPresent(builder::withMaxFloorArea);
+
+        Optional<String> minBedroom = parseBound(argMultimap, PREFIX_PROPERTY_MIN_BEDROOM,
+                Bedroom::isValidBedroom, Bedroom.MESSAGE_CONSTRAINTS);
+        Optional<String> maxBedroom = parseBound(argMultimap, PREFIX_PROPERTY_MAX_BEDROOM,
+                Bedroom::isValidBedroom, Bedroom.MESSAGE_CONSTRAINTS);
+        verifyRange(minBedroom, maxBedroom, "number of bedrooms");
+        minBedroom.ifPresent(builder::withMinBedroom);
+        maxBedroom.ifPresent(builder::withMaxBedroom);
+
+        Optional<String> minBathroom = parseBound(argMultimap, PREFIX_PROPERTY_MIN_BATHROOM,
+                Bathroom::isValidBathroom, Bathroom.MESSAGE_CONSTRAINTS);
+        Optional<String> maxBathroom = parseBound(argMultimap, PREFIX_PROPERTY_MAX_BATHROOM,
+                Bathroom::isValidBathroom, Bathroom.MESSAGE_CONSTRAINTS);
+        verifyRange(minBathroom, maxBathroom, "number of bathrooms");
+        minBathroom.ifPresent(builder::withMinBathroom);
+        maxBathroom.ifPresent(builder::withMaxBathroom);
+
         return new FilterPropertyCommand(builder.build());
     }
+
+    /**
+     * Returns the trimmed value of {@code prefix}, if present.
+     *
+     * @throws ParseException if the value fails {@code isValid}.
+     */
+    private static Optional<String> parseBound(ArgumentMultimap argMultimap, Prefix prefix,
+            Predicate<String> isValid, String constraints) throws ParseException {
+        Optional<String> maybeBound = argMultimap.getValue(prefix).map(String::trim);
+        if (maybeBound.isPresent() && !isValid.test(maybeBound.get())) {
+            throw new ParseException(constraints);
+        }
+        return maybeBound;
+    }
+
+    /**
+     * Checks that a minimum and maximum, when both are given, form a non-empty range.
+     *
+     * @throws ParseException if the minimum is greater than the maximum.
+     */
+    private static void verifyRange(Optional<String> min, Optional<String> max, String field) throws ParseException {
+        if (min.isPresent() && max.isPresent() && Long.parseLong(min.get()) > Long.parseLong(max.get())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE, field));
+        }
+    }
 }
@@ -18,6 +18,9 @@ import seedu.address.model.uuid.Uuid;
  */
 public class LinkCommandParser implements Parser<LinkCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_PROPERTY_ID, PREFIX_LINK_RELATIONSHIP, PREFIX_CONTACT_ID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the LinkCommand
      * and returns a LinkCommand object for execution.
@@ -26,9 +29,7 @@ public class LinkCommandParser implements Parser<LinkCommand> {
     @Override
     public LinkCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PROPERTY_ID, PREFIX_LINK_RELATIONSHIP,
-                        PREFIX_CONTACT_ID);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
         if (!argMultimap.arePrefixesPresent(PREFIX_PROPERTY_ID, PREFIX_LINK_RELATIONSHIP, PREFIX_CONTACT_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LinkCommand.MESSAGE_USAGE));
@@ -16,9 +16,11 @@ import seedu.address.model.uuid.Uuid;
  */
 public class MarkSoldCommandParser implements Parser<MarkSoldCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PROPERTY_ID);
+
     @Override
     public MarkSoldCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROPERTY_ID);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
         List<String> idList = argMultimap.getAllValues(PREFIX_PROPERTY_ID);
 
         if (idList.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
@@ -1,72 +1,29 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import java.util.Map;
 
-import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddPropertyCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeletePropertyCommand;
 import seedu.address.logic.commands.FilterPropertyCommand;
-import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.MarkSoldCommand;
 import seedu.address.logic.commands.MarkUnsoldCommand;
 import seedu.address.logic.commands.ShowPropertiesCommand;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.logic.parser.exceptions.UnknownCommandParseException;
 
 /**
  * Parses user input.
  */
-public class PropertyBookParser implements CommandSetParser {
-
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(PropertyBookParser.class);
-
-    /**
-     * Parses user input into command for execution.
-     *
-     * @param userInput full user input string
-     * @return the command based on the user input
-     * @throws ParseException if the user input does not conform the expected format
-     */
-    @Override
-    public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
-        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
-        // log messages such as the one below. Lower level log messages are used sparingly to minimize noise in the
-        // code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-        case AddPropertyCommand.COMMAND_WORD:
-            return new AddPropertyCommandParser().parse(arguments);
-        case FilterPropertyCommand.COMMAND_WORD:
-            return new FilterPropertyCommandParser().parse(arguments);
-        case DeletePropertyCommand.COMMAND_WORD:
-            return new DeletePropertyCommandParser().parse(arguments);
-        case ShowPropertiesCommand.COMMAND_WORD:
-            return new ShowPropertiesCommandParser().parse(arguments);
-        case MarkSoldCommand.COMMAND_WORD:
-            return new MarkSoldCommandParser().parse(arguments);
-        case MarkUnsoldCommand.COMMAND_WORD:
-            return new MarkUnsoldCommandParser().parse(arguments);
-        default:
-            throw new UnknownCommandParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+public class PropertyBookParser extends CommandTableParser {
+
+    private static final Map<String, Parser<? extends Command>> COMMAND_PARSERS = Map.of(
+            AddPropertyCommand.COMMAND_WORD, new AddPropertyCommandParser(),
+            FilterPropertyCommand.COMMAND_WORD, new FilterPropertyCommandParser(),
+            DeletePropertyCommand.COMMAND_WORD, new DeletePropertyCommandParser(),
+            ShowPropertiesCommand.COMMAND_WORD, new ShowPropertiesCommandParser(),
+            MarkSoldCommand.COMMAND_WORD, new MarkSoldCommandParser(),
+            MarkUnsoldCommand.COMMAND_WORD, new MarkUnsoldCommandParser());
+
+    public PropertyBookParser() {
+        super(COMMAND_PARSERS);
     }
 }
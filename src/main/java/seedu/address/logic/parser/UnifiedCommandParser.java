@@ -1,39 +1,39 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.logic.parser.exceptions.UnknownCommandParseException;
 
 /**
- * Attempts to parse commands using each delegate parser in sequence until one succeeds.
+ * Parses commands of all the delegate parsers, by dispatching each command word to the parser of the delegate that
+ * recognises it.
+ * <p>
+ * The command words of all delegates are merged into one table when this parser is created, so the input is split
+ * and looked up once however many delegates there are.
+ * </p>
  */
-public class UnifiedCommandParser implements CommandSetParser {
-    private final List<CommandSetParser> commandParsers;
+public class UnifiedCommandParser extends CommandTableParser {
 
+    /**
+     * Creates a parser for the command words of all of {@code commandParsers}.
+     *
+     * @throws IllegalArgumentException if a command word is recognised by more than one of the parsers.
+     */
     public UnifiedCommandParser(List<CommandSetParser> commandParsers) {
-        this.commandParsers = List.copyOf(Objects.requireNonNull(commandParsers));
+        super(mergeCommandParsers(requireNonNull(commandParsers)));
     }
 
-    @Override
-    public Command parseCommand(String userInput) throws ParseException {
-        UnknownCommandParseException lastUnknown = null;
-
-        for (CommandSetParser parser : commandParsers) {
-            try {
-                return parser.parseCommand(userInput);
-            } catch (UnknownCommandParseException unknownCommand) {
-                lastUnknown = unknownCommand;
-            }
-        }
-
-        if (lastUnknown != null) {
-            throw lastUnknown;
+    private static Map<String, Parser<? extends Command>> mergeCommandParsers(List<CommandSetParser> commandParsers) {
+        Map<String, Parser<? extends Command>> merged = new HashMap<>();
+        for (CommandSetParser commandParser : commandParsers) {
+            commandParser.getCommandParsers().forEach((commandWord, parser) -> checkArgument(
+                    merged.putIfAbsent(commandWord, parser) == null, "Duplicate command word: " + commandWord));
         }
-        throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        return merged;
     }
 }
@@ -16,6 +16,8 @@ import seedu.address.model.uuid.Uuid;
  */
 public class UnlinkCommandParser implements Parser<UnlinkCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PROPERTY_ID, PREFIX_CONTACT_ID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the UnlinkCommand
      * and returns a UnlinkCommand object for execution.
@@ -24,7 +26,7 @@ public class UnlinkCommandParser implements Parser<UnlinkCommand> {
     @Override
     public UnlinkCommand parse(String args) throws ParseException {
 
-        var argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROPERTY_ID, PREFIX_CONTACT_ID);
+        var argMultimap = TOKENIZER.tokenizeArgs(args);
         if (!argMultimap.arePrefixesPresent(PREFIX_PROPERTY_ID, PREFIX_CONTACT_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnlinkCommand.MESSAGE_USAGE));
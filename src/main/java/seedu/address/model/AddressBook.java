@@ -4,15 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactRegistry;
+import seedu.address.model.contact.ContactTextIndex;
+import seedu.address.model.contact.FilterContactPredicate;
 import seedu.address.model.contact.UniqueContactList;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidAllocator;
 
 /**
  * Wraps all data at the address-book level
@@ -21,7 +24,12 @@ import seedu.address.model.uuid.Uuid;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueContactList contacts;
-    private int nextUuid = 1;
+    private final ContactRegistry contactsById;
+    private final ContactTextIndex contactIndex;
+    private final UuidAllocator uuidAllocator;
+    private long version;
+    private final SnapshotList<Contact> snapshotList;
+    private EntryChange<Contact> latestChange;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -32,6 +40,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         contacts = new UniqueContactList();
+        contactsById = new ContactRegistry();
+        contactIndex = new ContactTextIndex();
+        uuidAllocator = new UuidAllocator();
+        version = VersionStamp.next();
+        snapshotList = new SnapshotList<>(contact -> contact.getUuid().getValue());
+        latestChange = EntryChange.start();
     }
 
     public AddressBook() {}
@@ -52,6 +66,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setContacts(List<Contact> contacts) {
         this.contacts.setContacts(contacts);
+        snapshotList.setAll(contacts);
+        contactsById.clear();
+        contactIndex.clear();
+        uuidAllocator.clear();
+        for (Contact contact : contacts) {
+            contactsById.addContact(contact);
+            contactIndex.add(contact);
+            uuidAllocator.markUsed(contact.getUuid().getValue());
+        }
+        version = VersionStamp.next();
+        latestChange = EntryChange.start();
     }
 
     /**
@@ -61,6 +86,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
         setContacts(newData.getContactList());
         setNextUuid(newData.getNextUuid());
+        version = newData.getVersion();
     }
 
     //// contact-level operations
@@ -74,15 +100,22 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Sets the next UUID to be used.
+     * Returns the contact with the given {@code id}, or {@code null} if there is no such contact.
+     */
+    public Contact getContactById(Uuid id) {
+        requireNonNull(id);
+        Contact contact = contactsById.getContact(id.getValue());
+        return contact != null && contact.getUuid().equals(id) ? contact : null;
+    }
+
+    /**
+     * Returns the next unused UUID, at or above the stored high-water mark.
      */
     public Uuid generateNextUuid() {
-        Set<Integer> existingIds = contacts.asUnmodifiableObservableList()
-                .stream()
-                .map(person -> person.getUuid().getValue())
-                .collect(Collectors.toSet());
-        while (existingIds.contains(nextUuid)) {
-            nextUuid++;
+        int previousNextUuid = uuidAllocator.getNextUuid();
+        int nextUuid = uuidAllocator.next();
+        if (nextUuid != previousNextUuid) {
+            version = VersionStamp.next();
         }
         return new Uuid(nextUuid, CONTACT);
     }
@@ -91,14 +124,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Returns current UUID that can be used.
      */
     public int getNextUuid() {
-        return nextUuid;
+        return uuidAllocator.getNextUuid();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public EntryChange<Contact> getLatestChange() {
+        return latestChange;
     }
 
     /**
      * Updates the UUID in this class to be the one stored in the address book.
      */
     public void setNextUuid(int nextUuid) {
-        this.nextUuid = nextUuid;
+        uuidAllocator.setNextUuid(nextUuid);
+        version = VersionStamp.next();
     }
 
     /**
@@ -107,6 +151,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addContact(Contact p) {
         contacts.add(p);
+        snapshotList.add(p);
+        contactsById.addContact(p);
+        contactIndex.add(p);
+        uuidAllocator.markUsed(p.getUuid().getValue());
+        version = VersionStamp.next();
+        latestChange = latestChange.put(p.getUuid().getValue(), p);
     }
 
     /**
@@ -119,6 +169,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedContact);
 
         contacts.setContact(target, editedContact);
+        snapshotList.replace(target, editedContact);
+        reindex(target, editedContact);
+        uuidAllocator.release(target.getUuid().getValue());
+        uuidAllocator.markUsed(editedContact.getUuid().getValue());
+        version = VersionStamp.next();
+        recordReplacement(target, editedContact);
+    }
+
+    /**
+     * Replaces each contact that is a key of {@code replacements} with its value, in a single change to the
+     * contact list. The keys must be contacts in the address book, compared by reference.
+     * The contact identities of the values must not be the same as each other or as another contact.
+     */
+    public void replaceContacts(Map<Contact, Contact> replacements) {
+        requireNonNull(replacements);
+
+        contacts.replaceContacts(replacements);
+        for (Map.Entry<Contact, Contact> replacement : replacements.entrySet()) {
+            Contact target = replacement.getKey();
+            Contact editedContact = replacement.getValue();
+            snapshotList.replace(target, editedContact);
+            reindex(target, editedContact);
+            uuidAllocator.release(target.getUuid().getValue());
+            uuidAllocator.markUsed(editedContact.getUuid().getValue());
+            recordReplacement(target, editedContact);
+        }
+        version = VersionStamp.next();
     }
 
     /**
@@ -127,6 +204,60 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeContact(Contact key) {
         contacts.remove(key);
+        snapshotList.remove(key);
+        unindex(key);
+        uuidAllocator.release(key.getUuid().getValue());
+        version = VersionStamp.next();
+        latestChange = latestChange.remove(key.getUuid().getValue());
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedContact}.
+     */
+    private void recordReplacement(Contact target, Contact editedContact) {
+        int targetId = target.getUuid().getValue();
+        int editedId = editedContact.getUuid().getValue();
+        if (targetId != editedId) {
+            latestChange = latestChange.remove(targetId);
+        }
+        latestChange = latestChange.put(editedId, editedContact);
+    }
+
+    /**
+     * Replaces the stored contact with the same uuid as {@code target} with {@code editedContact} in the registry
+     * and the text index.
+     */
+    private void reindex(Contact target, Contact editedContact) {
+        Contact stored = contactsById.getContact(target.getUuid().getValue());
+        contactsById.removeContact(target.getUuid().getValue());
+        contactsById.addContact(editedContact);
+        if (stored != null) {
+            contactIndex.replace(stored, editedContact);
+        } else {
+            contactIndex.add(editedContact);
+        }
+    }
+
+    /**
+     * Removes the stored contact with the same uuid as {@code contact} from the registry and the text index.
+     */
+    private void unindex(Contact contact) {
+        int id = contact.getUuid().getValue();
+        Contact stored = contactsById.getContact(id);
+        if (stored != null) {
+            contactIndex.remove(stored);
+        }
+        contactsById.removeContact(id);
+    }
+
+    /**
+     * Returns the contacts that match {@code predicate}, in no particular order.
+     * The text index is used where {@code predicate} allows; the result is the same as testing every contact in
+     * {@link #getContactList()} with {@code predicate}.
+     */
+    public List<Contact> findContacts(FilterContactPredicate predicate) {
+        requireNonNull(predicate);
+        return contactIndex.find(predicate);
     }
 
     //// util methods
@@ -143,6 +274,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return contacts.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable copy of the current contents of this address book, taken in constant time.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(snapshotList.snapshot(), getNextUuid(), version, latestChange);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -160,6 +299,6 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public int hashCode() {
-        return Objects.hash(contacts, nextUuid);
+        return Objects.hash(contacts, uuidAllocator.getNextUuid());
     }
 }
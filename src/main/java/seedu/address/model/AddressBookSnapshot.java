@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.contact.Contact;
+
+/**
+ * An unmodifiable copy of the contents of an address book, as returned by {@link AddressBook#getSnapshot()}.
+ * <p>
+ * The contacts come from a {@link SnapshotList}, so a snapshot is taken in constant time and builds none of the
+ * indexes that {@code AddressBook} maintains. Snapshots are safe to hand to another thread, such as the one that
+ * saves them.
+ * </p>
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Contact> contacts;
+    private final int nextUuid;
+    private final long version;
+    private final EntryChange<Contact> latestChange;
+
+    /**
+     * Creates a snapshot of an address book with the given unmodifiable list of {@code contacts}, UUID counter,
+     * version and latest change.
+     */
+    AddressBookSnapshot(List<Contact> contacts, int nextUuid, long version,
+            EntryChange<Contact> latestChange) {
+        requireNonNull(contacts);
+        // the list is unmodifiable, so the list wrapped around it cannot be modified either
+        this.contacts = FXCollections.observableList(contacts);
+        this.nextUuid = nextUuid;
+        this.version = version;
+        this.latestChange = latestChange;
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return contacts;
+    }
+
+    @Override
+    public int getNextUuid() {
+        return nextUuid;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public EntryChange<Contact> getLatestChange() {
+        return latestChange;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("contacts", contacts)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be held back and reported to listeners as one change.
+ * <p>
+ * Between {@link #beginBatch} and the matching {@link #endBatch}, the list can be read and modified as usual, but
+ * listeners are not told about any of the modifications until the batch ends. Batches may be nested; listeners are
+ * told when the outermost batch ends.
+ * </p>
+ */
+class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Holds back the changes made from now on until the matching {@link #endBatch}.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch begun by the matching {@link #beginBatch}. If it is the outermost batch, the changes made during
+     * it are reported to listeners as one change.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    // replacing or clearing the whole list is reported as a single removal and addition, rather than one removal
+    // per element as the base class does
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        beginChange();
+        try {
+            List<E> added = new ArrayList<>(replacement);
+            if (!elements.isEmpty()) {
+                nextRemove(0, new ArrayList<>(elements));
+                elements.clear();
+            }
+            if (!added.isEmpty()) {
+                elements.addAll(added);
+                nextAdd(0, elements.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A change to one entry of a book: the entry with some UUID was added or replaced, or removed.
+ * <p>
+ * Each change is linked to the change made after it, so the changes made to a book form a chain that only grows at
+ * its end. A book holds its latest change, and a snapshot of the book holds the change that was latest when it was
+ * taken, so the entries that differ between two snapshots are found by walking the chain from one to the other
+ * instead of comparing every entry. Changes are only linked forwards, so those older than every change still held
+ * are garbage collected.
+ * </p>
+ * <p>
+ * Replacing the whole contents of a book starts a new chain with {@link #start()}.
+ * </p>
+ *
+ * @param <E> type of the entries in the book.
+ */
+public final class EntryChange<E> {
+
+    private final int uuid;
+    private final E entry;
+    // Written on the thread that changes the book, and read on the thread that saves it
+    private volatile EntryChange<E> next;
+
+    private EntryChange(int uuid, E entry) {
+        this.uuid = uuid;
+        this.entry = entry;
+    }
+
+    /**
+     * Returns the start of a new chain of changes.
+     */
+    public static <E> EntryChange<E> start() {
+        return new EntryChange<>(0, null);
+    }
+
+    /**
+     * Records that {@code entry}, whose UUID has the value {@code uuid}, was added or replaced after this change.
+     * This must be the latest change of its chain.
+     *
+     * @return the recorded change, which is now the latest change of the chain.
+     */
+    public EntryChange<E> put(int uuid, E entry) {
+        requireNonNull(entry);
+        return link(new EntryChange<>(uuid, entry));
+    }
+
+    /**
+     * Records that the entry whose UUID has the value {@code uuid} was removed after this change.
+     * This must be the latest change of its chain.
+     *
+     * @return the recorded change, which is now the latest change of the chain.
+     */
+    public EntryChange<E> remove(int uuid) {
+        return link(new EntryChange<>(uuid, null));
+    }
+
+    private EntryChange<E> link(EntryChange<E> change) {
+        assert next == null : "Only the latest change of a chain can be followed by another";
+        next = change;
+        return change;
+    }
+
+    /**
+     * Returns the entries changed after this change, up to and including {@code later}, by the value of their UUID.
+     * Each UUID is mapped to the entry it was last put with, or to {@code null} if the entry was last removed.
+     * The UUIDs are in the order they were first changed in.
+     *
+     * @return the changed entries, or an empty {@code Optional} if {@code later} does not follow this change in the
+     *     same chain.
+     */
+    public Optional<Map<Integer, E>> getChangesUntil(EntryChange<E> later) {
+        requireNonNull(later);
+        Map<Integer, E> changes = new LinkedHashMap<>();
+        EntryChange<E> change = this;
+        while (change != later) {
+            change = change.next;
+            if (change == null) {
+                return Optional.empty();
+            }
+            changes.put(change.uuid, change.entry);
+        }
+        return Optional.of(changes);
+    }
+}
@@ -0,0 +1,356 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A filtered view of a source list that is kept up to date by applying each change to the source as a delta.
+ * <p>
+ * Unlike {@code FilteredList}, which re-tests every element of the source whenever its predicate is replaced,
+ * the owner of this view reports each element it adds to, replaces in or removes from the source, and only that
+ * element is tested. The view then fires a change for that element alone. Setting the predicate that is already in
+ * use costs nothing, and {@link #narrow} re-tests only the elements currently shown, or none at all when the matches
+ * can be looked up. Only {@link #setPredicate} with a different predicate, and {@link #refresh} after the source is
+ * replaced wholesale, go through the whole source.
+ * </p>
+ * <p>
+ * The predicates the view is narrowed by are composed with the one last set into a single predicate, which elements
+ * added or edited later are tested against. A narrowing predicate equal to one already in force is dropped, so
+ * repeating a filter does not lengthen the composed predicate, and setting a predicate or refreshing the view
+ * discards the narrowing predicates.
+ * </p>
+ * <p>
+ * The view relies on being told about every change to the source, in the order the changes are made.
+ * </p>
+ * <p>
+ * While notifications are suspended, the view is still kept up to date, but its listeners are told about the changes
+ * only once notifications are resumed, as one change.
+ * </p>
+ */
+class FilteredView<E> {
+
+    private final ObservableList<E> source;
+    private final BatchableObservableList<E> shown = new BatchableObservableList<>();
+    private final ObservableList<E> unmodifiableShown = FXCollections.unmodifiableObservableList(shown);
+    // the predicate last set, which refreshing the view goes back to
+    private Predicate<? super E> basePredicate;
+    // basePredicate and the predicates the view was narrowed by since, composed into one
+    private AllOf<E> predicate;
+
+    /**
+     * Creates a view of the elements of {@code source} that match {@code predicate}.
+     */
+    FilteredView(ObservableList<E> source, Predicate<? super E> predicate) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        this.source = source;
+        this.basePredicate = predicate;
+        refresh();
+    }
+
+    /**
+     * Returns an unmodifiable list of the shown elements, in source order.
+     */
+    ObservableList<E> getView() {
+        return unmodifiableShown;
+    }
+
+    /**
+     * Returns true if {@code element} matches the predicate of the view and every predicate it was narrowed by.
+     */
+    boolean isMatch(E element) {
+        return predicate.test(element);
+    }
+
+    /**
+     * Holds back the change notifications of the view until the matching {@link #resumeNotifications}.
+     */
+    void suspendNotifications() {
+        shown.beginBatch();
+    }
+
+    /**
+     * Resumes the change notifications held back by the matching {@link #suspendNotifications}, reporting the changes
+     * made in between as one change.
+     */
+    void resumeNotifications() {
+        shown.endBatch();
+    }
+
+    /**
+     * Shows the elements of the source that match {@code newPredicate}, dropping the predicates the view was narrowed
+     * by. If {@code newPredicate} is the predicate already in use and the view was not narrowed since, the view is
+     * already up to date and nothing is done.
+     */
+    void setPredicate(Predicate<? super E> newPredicate) {
+        requireNonNull(newPredicate);
+        if (newPredicate == basePredicate && !predicate.isNarrowed()) {
+            return;
+        }
+        basePredicate = newPredicate;
+        refresh();
+    }
+
+    /**
+     * Shows {@code matches}, which must be exactly the elements of the source that match {@code newPredicate}, dropping
+     * the predicates the view was narrowed by. The predicate is not tested against the source; the source is only
+     * walked, comparing references, far enough to put the matches in source order.
+     */
+    void setPredicate(Predicate<? super E> newPredicate, Collection<? extends E> matches) {
+        requireNonNull(newPredicate);
+        requireNonNull(matches);
+        basePredicate = newPredicate;
+        predicate = new AllOf<>(newPredicate);
+        if (matches.isEmpty()) {
+            shown.clear();
+            return;
+        }
+        Set<E> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+        remaining.addAll(matches);
+        List<E> inSourceOrder = new ArrayList<>(remaining.size());
+        for (int i = 0; i < source.size() && !remaining.isEmpty(); i++) {
+            E element = source.get(i);
+            if (remaining.remove(element)) {
+                inSourceOrder.add(element);
+            }
+        }
+        shown.setAll(inSourceOrder);
+    }
+
+    /**
+     * Hides the shown elements that do not match {@code tighterPredicate}. Only the shown elements are tested.
+     * Afterwards, the view shows the elements that match both the previous predicates and {@code tighterPredicate}.
+     */
+    void narrow(Predicate<? super E> tighterPredicate) {
+        requireNonNull(tighterPredicate);
+        if (!addNarrowingPredicate(tighterPredicate)) {
+            return;
+        }
+        List<E> kept = new ArrayList<>();
+        for (E element : shown) {
+            if (tighterPredicate.test(element)) {
+                kept.add(element);
+            }
+        }
+        keep(kept);
+    }
+
+    /**
+     * Same as {@link #narrow(Predicate)}, but when every element of the source is shown, no element is tested:
+     * {@code findMatches} is asked for exactly the elements of the source that match {@code tighterPredicate}, and
+     * the shown elements are looked up among them by reference. Otherwise the shown elements, which are then fewer
+     * than the source, are tested as usual and {@code findMatches} is not called.
+     */
+    void narrow(Predicate<? super E> tighterPredicate, Supplier<? extends Collection<? extends E>> findMatches) {
+        requireNonNull(tighterPredicate);
+        requireNonNull(findMatches);
+        if (shown.size() < source.size()) {
+            narrow(tighterPredicate);
+            return;
+        }
+        if (!addNarrowingPredicate(tighterPredicate)) {
+            return;
+        }
+        Collection<? extends E> found = findMatches.get();
+        Set<E> matches = Collections.newSetFromMap(new IdentityHashMap<>(found.size()));
+        matches.addAll(found);
+        List<E> kept = new ArrayList<>(Math.min(shown.size(), matches.size()));
+        for (E element : shown) {
+            if (matches.contains(element)) {
+                kept.add(element);
+            }
+        }
+        keep(kept);
+    }
+
+    /**
+     * Composes {@code tighterPredicate} into the predicate of the view.
+     *
+     * @return false if an equal predicate is already in force, in which case every shown element matches it.
+     */
+    private boolean addNarrowingPredicate(Predicate<? super E> tighterPredicate) {
+        if (predicate.contains(tighterPredicate)) {
+            return false;
+        }
+        predicate = predicate.with(tighterPredicate);
+        return true;
+    }
+
+    /**
+     * Replaces the shown elements with {@code kept}, which holds some of them in the same order, in one change.
+     */
+    private void keep(List<E> kept) {
+        if (kept.size() < shown.size()) {
+            shown.setAll(kept);
+        }
+    }
+
+    /**
+     * Re-tests every element of the source against the predicate last set, dropping the predicates the view was
+     * narrowed by. Used after the source is replaced wholesale.
+     */
+    void refresh() {
+        predicate = new AllOf<>(basePredicate);
+        List<E> matches = new ArrayList<>();
+        for (E element : source) {
+            if (predicate.test(element)) {
+                matches.add(element);
+            }
+        }
+        shown.setAll(matches);
+    }
+
+    /**
+     * Updates the view after {@code added} was added to the source.
+     */
+    void elementAdded(E added) {
+        if (isMatch(added)) {
+            insertInSourceOrder(added);
+        }
+    }
+
+    /**
+     * Updates the view after {@code target} was replaced in the source by {@code edited}.
+     */
+    void elementReplaced(E target, E edited) {
+        int index = indexOf(target);
+        boolean isEditedShown = isMatch(edited);
+        if (index >= 0 && isEditedShown) {
+            shown.set(index, edited);
+        } else if (index >= 0) {
+            shown.remove(index);
+        } else if (isEditedShown) {
+            insertInSourceOrder(edited);
+        }
+    }
+
+    /**
+     * Updates the view after each key of {@code replacements} was replaced in the source by its value.
+     * The keys are compared by reference. Only the values are tested, and the view fires at most one change.
+     */
+    void elementsReplaced(Map<E, E> replacements) {
+        if (replacements.size() == 1) {
+            Map.Entry<E, E> replacement = replacements.entrySet().iterator().next();
+            elementReplaced(replacement.getKey(), replacement.getValue());
+            return;
+        }
+        Map<E, E> targetOf = new IdentityHashMap<>();
+        for (Map.Entry<E, E> replacement : replacements.entrySet()) {
+            targetOf.put(replacement.getValue(), replacement.getKey());
+        }
+
+        // the shown elements are in source order, so the view is rebuilt in one walk alongside the source
+        List<E> updated = new ArrayList<>(shown.size());
+        boolean isChanged = false;
+        int next = 0;
+        for (E element : source) {
+            E target = targetOf.get(element);
+            E previous = target != null ? target : element;
+            boolean wasShown = next < shown.size() && shown.get(next) == previous;
+            if (wasShown) {
+                next++;
+            }
+            boolean isShown = target != null ? predicate.test(element) : wasShown;
+            if (isShown) {
+                updated.add(element);
+            }
+            isChanged |= target != null && (wasShown || isShown);
+        }
+        if (isChanged) {
+            shown.setAll(updated);
+        }
+    }
+
+    /**
+     * Updates the view after {@code removed} was removed from the source.
+     */
+    void elementRemoved(E removed) {
+        int index = indexOf(removed);
+        if (index >= 0) {
+            shown.remove(index);
+        }
+    }
+
+    /**
+     * Returns the position of {@code element} in the view, preferring the same instance to an equal one.
+     */
+    private int indexOf(E element) {
+        for (int i = shown.size() - 1; i >= 0; i--) {
+            if (shown.get(i) == element) {
+                return i;
+            }
+        }
+        return shown.indexOf(element);
+    }
+
+    /**
+     * Inserts a source element into the view, before the shown elements that follow it in the source.
+     */
+    private void insertInSourceOrder(E element) {
+        // elements are usually added at the end of the source
+        if (!source.isEmpty() && source.get(source.size() - 1) == element) {
+            shown.add(element);
+            return;
+        }
+        int position = 0;
+        for (E sourceElement : source) {
+            if (sourceElement == element) {
+                break;
+            }
+            if (position < shown.size() && shown.get(position) == sourceElement) {
+                position++;
+            }
+        }
+        shown.add(position, element);
+    }
+
+    /**
+     * A predicate that matches the elements matching all of its parts, the first of which is the predicate last set
+     * on the view.
+     */
+    private static final class AllOf<E> implements Predicate<E> {
+        private final Predicate<? super E>[] parts;
+
+        @SafeVarargs
+        AllOf(Predicate<? super E>... parts) {
+            this.parts = parts;
+        }
+
+        boolean isNarrowed() {
+            return parts.length > 1;
+        }
+
+        boolean contains(Predicate<? super E> part) {
+            return Arrays.asList(parts).contains(part);
+        }
+
+        AllOf<E> with(Predicate<? super E> part) {
+            Predicate<? super E>[] extended = Arrays.copyOf(parts, parts.length + 1);
+            extended[parts.length] = part;
+            return new AllOf<>(extended);
+        }
+
+        @Override
+        public boolean test(E element) {
+            for (Predicate<? super E> part : parts) {
+                if (!part.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
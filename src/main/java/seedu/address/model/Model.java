@@ -1,12 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.contact.exceptions.ContactNotFoundException;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -83,15 +88,46 @@ public interface Model {
      */
     void setContact(Contact target, Contact editedContact);
 
+    /**
+     * Returns the contact with the given {@code id}, or {@code null} if no such contact exists.
+     */
+    Contact getContactById(Uuid id);
+
+    /**
+     * Returns an unused UUID for a new contact.
+     */
+    Uuid generateNextContactUuid();
+
     /** Returns an unmodifiable view of the filtered contact list */
     ObservableList<Contact> getFilteredContactList();
 
+    /**
+     * Returns true if {@code contact} is currently shown in the filtered contact list.
+     */
+    boolean isInFilteredContactList(Contact contact);
+
     /**
      * Updates the filter of the filtered contact list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredContactList(Predicate<Contact> predicate);
 
+    /**
+     * Hides the contacts in the filtered contact list that do not match {@code predicate}.
+     * Only the contacts currently shown are tested, so this is cheaper than {@link #updateFilteredContactList}
+     * when the new filter only ever removes contacts from the current one. While every contact is shown, the matches
+     * are looked up through the address book's text index instead.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void narrowFilteredContactList(FilterContactPredicate predicate);
+
+    /**
+     * Updates the filtered contact list to show only the contacts that own, buy or sell the property with
+     * {@code propertyUuid}. The contacts are found through the property's links, without testing every contact.
+     * @throws NullPointerException if {@code propertyUuid} is null.
+     */
+    void showContactsAssociatedWith(Uuid propertyUuid);
+
     //=========== PropertyBook ================================================================================
     /**
      * Returns the user prefs' property book file path.
@@ -136,14 +172,66 @@ public interface Model {
      */
     void setProperty(Property target, Property editedProperty);
 
+    /**
+     * Replaces each stored contact and property with the edited one in {@code editedContacts} or
+     * {@code editedProperties} that has the same UUID. The targets are found by UUID, and each list is changed
+     * once, however many entries are replaced.
+     * The identities of the edited entries must not be the same as those of other contacts or properties.
+     * @throws ContactNotFoundException if no contact has the UUID of an edited contact.
+     * @throws PropertyNotFoundException if no property has the UUID of an edited property.
+     */
+    void applyBatch(List<Contact> editedContacts, List<Property> editedProperties);
+
     /** Returns an unmodifiable view of the filtered property list */
     ObservableList<Property> getFilteredPropertyList();
 
+    /**
+     * Returns true if {@code property} is currently shown in the filtered property list.
+     */
+    boolean isInFilteredPropertyList(Property property);
+
     /**
      * Updates the filter of the filtered property list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPropertyList(Predicate<Property> predicate);
 
+    /**
+     * Hides the properties in the filtered property list that do not match {@code predicate}.
+     * Only the properties currently shown are tested, so this is cheaper than {@link #updateFilteredPropertyList}
+     * when the new filter only ever removes properties from the current one. While every property is shown, the matches
+     * are looked up through the property book's attribute indexes instead.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void narrowFilteredPropertyList(PropertyMatchesFilterPredicate predicate);
+
+    /**
+     * Updates the filtered property list to show only the properties that the contact with {@code contactUuid}
+     * owns, buys or sells. The properties are found through the contact's links, without testing every property.
+     * @throws NullPointerException if {@code contactUuid} is null.
+     */
+    void showPropertiesAssociatedWith(Uuid contactUuid);
+
+    /**
+     * Returns the property with the given {@code id}, or {@code null} if no such property exists.
+     */
     Property getPropertyById(Uuid id);
+
+    /**
+     * Returns an unused UUID for a new property.
+     */
+    Uuid generateNextPropertyUuid();
+
+    /**
+     * Holds back the change notifications of the filtered contact and property lists until the matching
+     * {@link #resumeListChangeNotifications}. The lists are still kept up to date in the meantime.
+     * Calls may be nested.
+     */
+    void suspendListChangeNotifications();
+
+    /**
+     * Resumes the change notifications held back by the matching {@link #suspendListChangeNotifications}.
+     * When the outermost suspension ends, the changes made to each filtered list are reported as one change.
+     */
+    void resumeListChangeNotifications();
 }
@@ -4,16 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.contact.exceptions.ContactNotFoundException;
+import seedu.address.model.contact.predicates.AssociatedWithPropertyPredicate;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.property.predicates.AssociatedWithContactPredicate;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -25,8 +34,8 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final PropertyBook propertyBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Contact> filteredContacts;
-    private final FilteredList<Property> filteredProperties;
+    private final FilteredView<Contact> filteredContacts;
+    private final FilteredView<Property> filteredProperties;
 
     /**
      * Initializes a ModelManager with the given addressBook, propertyBook and
@@ -43,8 +52,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.propertyBook = new PropertyBook(propertyBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredContacts = new FilteredList<>(this.addressBook.getContactList());
-        filteredProperties = new FilteredList<>(this.propertyBook.getPropertyList());
+        filteredContacts = new FilteredView<>(this.addressBook.getContactList(), PREDICATE_SHOW_ALL_CONTACTS);
+        filteredProperties = new FilteredView<>(this.propertyBook.getPropertyList(), PREDICATE_SHOW_ALL_PROPERTIES);
     }
 
     public ModelManager() {
@@ -101,6 +110,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        filteredContacts.refresh();
     }
 
     @Override
@@ -111,6 +121,7 @@ public class ModelManager implements Model {
     @Override
     public void setPropertyBook(ReadOnlyPropertyBook propertyBook) {
         this.propertyBook.resetData(propertyBook);
+        filteredProperties.refresh();
     }
 
     @Override
@@ -127,11 +138,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteContact(Contact target) {
         addressBook.removeContact(target);
+        filteredContacts.elementRemoved(target);
     }
 
     @Override
     public void addContact(Contact contact) {
         addressBook.addContact(contact);
+        filteredContacts.elementAdded(contact);
         updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
     }
 
@@ -140,6 +153,18 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedContact);
 
         addressBook.setContact(target, editedContact);
+        filteredContacts.elementReplaced(target, editedContact);
+    }
+
+    @Override
+    public Contact getContactById(Uuid id) {
+        requireNonNull(id);
+        return addressBook.getContactById(id);
+    }
+
+    @Override
+    public Uuid generateNextContactUuid() {
+        return addressBook.generateNextUuid();
     }
 
     // =========== Property List Accessors
@@ -154,11 +179,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteProperty(Property target) {
         propertyBook.removeProperty(target);
+        filteredProperties.elementRemoved(target);
     }
 
     @Override
     public void addProperty(Property property) {
         propertyBook.addProperty(property);
+        filteredProperties.elementAdded(property);
         updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
     }
 
@@ -167,12 +194,45 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedProperty);
 
         propertyBook.setProperty(target, editedProperty);
+        filteredProperties.elementReplaced(target, editedProperty);
+    }
+
+    @Override
+    public void applyBatch(List<Contact> editedContacts, List<Property> editedProperties) {
+        requireAllNonNull(editedContacts, editedProperties);
+
+        // every target is resolved before anything is changed, so a missing one leaves the model untouched
+        Map<Contact, Contact> contactReplacements = new IdentityHashMap<>();
+        for (Contact editedContact : editedContacts) {
+            Contact target = addressBook.getContactById(editedContact.getUuid());
+            if (target == null) {
+                throw new ContactNotFoundException();
+            }
+            contactReplacements.put(target, editedContact);
+        }
+        Map<Property, Property> propertyReplacements = new IdentityHashMap<>();
+        for (Property editedProperty : editedProperties) {
+            Property target = propertyBook.getPropertyById(editedProperty.getUuid());
+            if (target == null) {
+                throw new PropertyNotFoundException();
+            }
+            propertyReplacements.put(target, editedProperty);
+        }
+
+        if (!contactReplacements.isEmpty()) {
+            addressBook.replaceContacts(contactReplacements);
+            filteredContacts.elementsReplaced(contactReplacements);
+        }
+        if (!propertyReplacements.isEmpty()) {
+            propertyBook.replaceProperties(propertyReplacements);
+            filteredProperties.elementsReplaced(propertyReplacements);
+        }
     }
 
     // =========== Property ID-based operations =================================================
 
     /**
-     * Returns the {@code Property} with the specified {@code id} from the current filtered property list.
+     * Returns the {@code Property} with the specified {@code id} from the property book.
      * Returns {@code null} if no such property exists.
      *
      * @param id The unique ID of the property to retrieve.
@@ -181,12 +241,12 @@ public class ModelManager implements Model {
     @Override
     public Property getPropertyById(Uuid id) {
         requireNonNull(id);
-        for (Property property : propertyBook.getPropertyList()) {
-            if (property.getUuid().equals(id)) {
-                return property;
-            }
-        }
-        return null;
+        return propertyBook.getPropertyById(id);
+    }
+
+    @Override
+    public Uuid generateNextPropertyUuid() {
+        return propertyBook.generateNextUuid();
     }
     // =========== Filtered List Accessors
     // =============================================================
@@ -198,7 +258,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return filteredContacts.getView();
     }
 
     @Override
@@ -207,6 +267,33 @@ public class ModelManager implements Model {
         filteredContacts.setPredicate(predicate);
     }
 
+    @Override
+    public void narrowFilteredContactList(FilterContactPredicate predicate) {
+        requireNonNull(predicate);
+        filteredContacts.narrow(predicate, () -> addressBook.findContacts(predicate));
+    }
+
+    @Override
+    public boolean isInFilteredContactList(Contact contact) {
+        requireNonNull(contact);
+        return filteredContacts.isMatch(contact);
+    }
+
+    @Override
+    public void showContactsAssociatedWith(Uuid propertyUuid) {
+        requireNonNull(propertyUuid);
+        AssociatedWithPropertyPredicate predicate =
+                new AssociatedWithPropertyPredicate(propertyUuid, propertyBook::getPropertyById);
+        List<Contact> matches = new ArrayList<>();
+        for (Uuid contactId : propertyBook.getContactIdsAssociatedWith(propertyUuid)) {
+            Contact contact = addressBook.getContactById(contactId);
+            if (contact != null && predicate.test(contact)) {
+                matches.add(contact);
+            }
+        }
+        filteredContacts.setPredicate(predicate, matches);
+    }
+
     // =========== Filtered Property List Accessors
     // =============================================================
 
@@ -217,7 +304,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Property> getFilteredPropertyList() {
-        return filteredProperties;
+        return filteredProperties.getView();
     }
 
     @Override
@@ -226,6 +313,43 @@ public class ModelManager implements Model {
         filteredProperties.setPredicate(predicate);
     }
 
+    @Override
+    public void narrowFilteredPropertyList(PropertyMatchesFilterPredicate predicate) {
+        requireNonNull(predicate);
+        filteredProperties.narrow(predicate, () -> propertyBook.findProperties(predicate));
+    }
+
+    @Override
+    public boolean isInFilteredPropertyList(Property property) {
+        requireNonNull(property);
+        return filteredProperties.isMatch(property);
+    }
+
+    @Override
+    public void showPropertiesAssociatedWith(Uuid contactUuid) {
+        requireNonNull(contactUuid);
+        AssociatedWithContactPredicate predicate = new AssociatedWithContactPredicate(contactUuid);
+        List<Property> matches = new ArrayList<>();
+        for (Property property : propertyBook.getPropertiesAssociatedWith(contactUuid)) {
+            if (predicate.test(property)) {
+                matches.add(property);
+            }
+        }
+        filteredProperties.setPredicate(predicate, matches);
+    }
+
+    @Override
+    public void suspendListChangeNotifications() {
+        filteredContacts.suspendNotifications();
+        filteredProperties.suspendNotifications();
+    }
+
+    @Override
+    public void resumeListChangeNotifications() {
+        filteredContacts.resumeNotifications();
+        filteredProperties.resumeNotifications();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -241,8 +365,8 @@ public class ModelManager implements Model {
         return addressBook.equals(otherModelManager.addressBook)
                 && propertyBook.equals(otherModelManager.propertyBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredContacts.equals(otherModelManager.filteredContacts)
-                && filteredProperties.equals(otherModelManager.filteredProperties);
+                && filteredContacts.getView().equals(otherModelManager.filteredContacts.getView())
+                && filteredProperties.getView().equals(otherModelManager.filteredProperties.getView());
     }
 
 }
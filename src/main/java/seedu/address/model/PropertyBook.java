@@ -1,17 +1,23 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyAttributeIndex;
+import seedu.address.model.property.PropertyLinkIndex;
+import seedu.address.model.property.PropertyRegistry;
 import seedu.address.model.property.UniquePropertyList;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidAllocator;
 
 /**
  * Wraps all data at the property-book level
@@ -20,7 +26,13 @@ import seedu.address.model.uuid.Uuid;
 public class PropertyBook implements ReadOnlyPropertyBook {
 
     private final UniquePropertyList properties;
-    private int nextUuid = 1;
+    private final PropertyRegistry propertiesById;
+    private final PropertyAttributeIndex propertyIndex;
+    private final PropertyLinkIndex linkIndex;
+    private final UuidAllocator uuidAllocator;
+    private long version;
+    private final SnapshotList<Property> snapshotList;
+    private EntryChange<Property> latestChange;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -34,6 +46,13 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     {
         properties = new UniquePropertyList();
+        propertiesById = new PropertyRegistry();
+        propertyIndex = new PropertyAttributeIndex();
+        linkIndex = new PropertyLinkIndex();
+        uuidAllocator = new UuidAllocator();
+        version = VersionStamp.next();
+        snapshotList = new SnapshotList<>(property -> property.getUuid().getValue());
+        latestChange = EntryChange.start();
     }
 
     public PropertyBook() {
@@ -55,6 +74,19 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     public void setProperties(List<Property> properties) {
         this.properties.setProperties(properties);
+        snapshotList.setAll(properties);
+        propertiesById.clear();
+        propertyIndex.clear();
+        linkIndex.clear();
+        uuidAllocator.clear();
+        for (Property property : properties) {
+            propertiesById.addProperty(property);
+            linkIndex.add(property);
+            uuidAllocator.markUsed(property.getUuid().getValue());
+        }
+        propertyIndex.addAll(properties);
+        version = VersionStamp.next();
+        latestChange = EntryChange.start();
     }
 
     /**
@@ -64,6 +96,7 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         requireNonNull(newData);
         setProperties(newData.getPropertyList());
         setNextUuid(newData.getNextUuid());
+        version = newData.getVersion();
     }
 
     //// property-level operations
@@ -78,15 +111,22 @@ public class PropertyBook implements ReadOnlyPropertyBook {
     }
 
     /**
-     * Sets the next UUID to be used.
+     * Returns the property with the given {@code id}, or {@code null} if there is no such property.
+     */
+    public Property getPropertyById(Uuid id) {
+        requireNonNull(id);
+        Property property = propertiesById.getProperty(id.getValue());
+        return property != null && property.getUuid().equals(id) ? property : null;
+    }
+
+    /**
+     * Returns the next unused UUID, at or above the stored high-water mark.
      */
     public Uuid generateNextUuid() {
-        Set<Integer> existingIds = properties.asUnmodifiableObservableList()
-                .stream()
-                .map(property -> property.getUuid().getValue())
-                .collect(Collectors.toSet());
-        while (existingIds.contains(nextUuid)) {
-            nextUuid++;
+        int previousNextUuid = uuidAllocator.getNextUuid();
+        int nextUuid = uuidAllocator.next();
+        if (nextUuid != previousNextUuid) {
+            version = VersionStamp.next();
         }
         return new Uuid(nextUuid, PROPERTY);
     }
@@ -95,14 +135,25 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      * Returns current UUID that can be used.
      */
     public int getNextUuid() {
-        return nextUuid;
+        return uuidAllocator.getNextUuid();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public EntryChange<Property> getLatestChange() {
+        return latestChange;
     }
 
     /**
      * Updates the UUID in this class to be the one stored in the property book.
      */
     public void setNextUuid(int nextUuid) {
-        this.nextUuid = nextUuid;
+        uuidAllocator.setNextUuid(nextUuid);
+        version = VersionStamp.next();
     }
 
     /**
@@ -111,6 +162,13 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     public void addProperty(Property p) {
         properties.add(p);
+        snapshotList.add(p);
+        propertiesById.addProperty(p);
+        propertyIndex.add(p);
+        linkIndex.add(p);
+        uuidAllocator.markUsed(p.getUuid().getValue());
+        version = VersionStamp.next();
+        latestChange = latestChange.put(p.getUuid().getValue(), p);
     }
 
     /**
@@ -125,6 +183,39 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         requireNonNull(editedProperty);
 
         properties.setProperty(target, editedProperty);
+        snapshotList.replace(target, editedProperty);
+        unindex(target);
+        propertiesById.addProperty(editedProperty);
+        propertyIndex.add(editedProperty);
+        linkIndex.add(editedProperty);
+        uuidAllocator.release(target.getUuid().getValue());
+        uuidAllocator.markUsed(editedProperty.getUuid().getValue());
+        version = VersionStamp.next();
+        recordReplacement(target, editedProperty);
+    }
+
+    /**
+     * Replaces each property that is a key of {@code replacements} with its value, in a single change to the
+     * property list. The keys must be properties in the property book, compared by reference.
+     * The property identities of the values must not be the same as each other or as another property.
+     */
+    public void replaceProperties(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+
+        properties.replaceProperties(replacements);
+        for (Map.Entry<Property, Property> replacement : replacements.entrySet()) {
+            Property target = replacement.getKey();
+            Property editedProperty = replacement.getValue();
+            snapshotList.replace(target, editedProperty);
+            unindex(target);
+            propertiesById.addProperty(editedProperty);
+            propertyIndex.add(editedProperty);
+            linkIndex.add(editedProperty);
+            uuidAllocator.release(target.getUuid().getValue());
+            uuidAllocator.markUsed(editedProperty.getUuid().getValue());
+            recordReplacement(target, editedProperty);
+        }
+        version = VersionStamp.next();
     }
 
     /**
@@ -133,6 +224,77 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     public void removeProperty(Property key) {
         properties.remove(key);
+        snapshotList.remove(key);
+        unindex(key);
+        uuidAllocator.release(key.getUuid().getValue());
+        version = VersionStamp.next();
+        latestChange = latestChange.remove(key.getUuid().getValue());
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedProperty}.
+     */
+    private void recordReplacement(Property target, Property editedProperty) {
+        int targetId = target.getUuid().getValue();
+        int editedId = editedProperty.getUuid().getValue();
+        if (targetId != editedId) {
+            latestChange = latestChange.remove(targetId);
+        }
+        latestChange = latestChange.put(editedId, editedProperty);
+    }
+
+    /**
+     * Removes the stored property with the same UUID as {@code property} from the registry and the indexes.
+     */
+    private void unindex(Property property) {
+        int id = property.getUuid().getValue();
+        Property stored = propertiesById.getProperty(id);
+        if (stored != null) {
+            propertyIndex.remove(stored);
+            linkIndex.remove(stored);
+        }
+        propertiesById.removeProperty(id);
+    }
+
+    /**
+     * Returns the properties that match {@code predicate}, in no particular order.
+     * The attribute indexes are used where {@code predicate} allows; the result is the same as testing every
+     * property in {@link #getPropertyList()} with {@code predicate}.
+     */
+    public List<Property> findProperties(PropertyMatchesFilterPredicate predicate) {
+        requireNonNull(predicate);
+        return propertyIndex.find(predicate, properties.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns the properties that {@code contactId} owns, buys or sells, in ascending order of UUID.
+     * Only the contact's links are looked up; the other properties are not examined.
+     */
+    public List<Property> getPropertiesAssociatedWith(Uuid contactId) {
+        requireNonNull(contactId);
+        int[] propertyIds = linkIndex.getAssociatedPropertyIds(contactId.getValue());
+        List<Property> associated = new ArrayList<>(propertyIds.length);
+        for (int propertyId : propertyIds) {
+            associated.add(propertiesById.getProperty(propertyId));
+        }
+        return associated;
+    }
+
+    /**
+     * Returns the UUIDs of the contacts that own, buy or sell the property with {@code propertyId}, in ascending
+     * order. The list is empty if there is no such property.
+     */
+    public List<Uuid> getContactIdsAssociatedWith(Uuid propertyId) {
+        requireNonNull(propertyId);
+        if (getPropertyById(propertyId) == null) {
+            return List.of();
+        }
+        int[] contactIds = linkIndex.getAssociatedContactIds(propertyId.getValue());
+        List<Uuid> associated = new ArrayList<>(contactIds.length);
+        for (int contactId : contactIds) {
+            associated.add(new Uuid(contactId, CONTACT));
+        }
+        return associated;
     }
 
     //// util methods
@@ -154,6 +316,14 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         return properties.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable copy of the current contents of this property book, taken in constant time.
+     */
+    @Override
+    public ReadOnlyPropertyBook getSnapshot() {
+        return new PropertyBookSnapshot(snapshotList.snapshot(), getNextUuid(), version, latestChange);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
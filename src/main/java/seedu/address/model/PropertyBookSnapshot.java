@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.property.Property;
+
+/**
+ * An unmodifiable copy of the contents of a property book, as returned by {@link PropertyBook#getSnapshot()}.
+ * <p>
+ * The properties come from a {@link SnapshotList}, so a snapshot is taken in constant time and builds none of the
+ * indexes that {@code PropertyBook} maintains. Snapshots are safe to hand to another thread, such as the one that
+ * saves them.
+ * </p>
+ */
+class PropertyBookSnapshot implements ReadOnlyPropertyBook {
+
+    private final ObservableList<Property> properties;
+    private final int nextUuid;
+    private final long version;
+    private final EntryChange<Property> latestChange;
+
+    /**
+     * Creates a snapshot of a property book with the given unmodifiable list of {@code properties}, UUID counter,
+     * version and latest change.
+     */
+    PropertyBookSnapshot(List<Property> properties, int nextUuid, long version,
+            EntryChange<Property> latestChange) {
+        requireNonNull(properties);
+        // the list is unmodifiable, so the list wrapped around it cannot be modified either
+        this.properties = FXCollections.observableList(properties);
+        this.nextUuid = nextUuid;
+        this.version = version;
+        this.latestChange = latestChange;
+    }
+
+    @Override
+    public ObservableList<Property> getPropertyList() {
+        return properties;
+    }
+
+    @Override
+    public int getNextUuid() {
+        return nextUuid;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public EntryChange<Property> getLatestChange() {
+        return latestChange;
+    }
+
+    @Override
+    public ReadOnlyPropertyBook getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("properties", properties)
+                .toString();
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.Contact;
-import seedu.address.model.uuid.Uuid;
 
 /**
  * Unmodifiable view of an address book
@@ -16,12 +15,25 @@ public interface ReadOnlyAddressBook {
     ObservableList<Contact> getContactList();
 
     /**
-     * Returns the next available contact UUID.
+     * Returns the current available contact UUID.
      */
-    Uuid generateNextUuid();
+    int getNextUuid();
 
     /**
-     * Returns the current available contact UUID.
+     * Returns a stamp identifying the current contents of this address book.
+     * Any change to the contents gives a new stamp, and copies of the same contents share a stamp, so two
+     * books with equal stamps are guaranteed to serialize identically.
      */
-    int getNextUuid();
+    long getVersion();
+
+    /**
+     * Returns the latest change to the contacts of this address book, which the next change will follow.
+     */
+    EntryChange<Contact> getLatestChange();
+
+    /**
+     * Returns an unmodifiable copy of the current contents of this address book, which later changes to it do not
+     * affect. The copy can be handed to another thread, such as the one that saves it.
+     */
+    ReadOnlyAddressBook getSnapshot();
 }
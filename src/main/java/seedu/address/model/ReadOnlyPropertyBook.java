@@ -2,7 +2,6 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.property.Property;
-import seedu.address.model.uuid.Uuid;
 
 /**
  * Unmodifiable view of a property
@@ -16,13 +15,25 @@ public interface ReadOnlyPropertyBook {
     ObservableList<Property> getPropertyList();
 
     /**
-     * Returns the next available property UUID.
+     * Returns the current available property UUID.
      */
-    Uuid generateNextUuid();
+    int getNextUuid();
 
     /**
-     * Returns the current available property UUID.
+     * Returns a stamp identifying the current contents of this property book.
+     * Any change to the contents gives a new stamp, and copies of the same contents share a stamp, so two
+     * books with equal stamps are guaranteed to serialize identically.
      */
-    int getNextUuid();
+    long getVersion();
 
+    /**
+     * Returns the latest change to the properties of this property book, which the next change will follow.
+     */
+    EntryChange<Property> getLatestChange();
+
+    /**
+     * Returns an unmodifiable copy of the current contents of this property book, which later changes to it do not
+     * affect. The copy can be handed to another thread, such as the one that saves it.
+     */
+    ReadOnlyPropertyBook getSnapshot();
 }
@@ -0,0 +1,264 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * The entries of a book in order, kept so that an unmodifiable copy of them can be taken in constant time.
+ * <p>
+ * The entries are held in the leaves of a tree of arrays of {@value #WIDTH} slots each, in the order they were
+ * added. A replaced entry keeps its slot, and a removed entry leaves its slot empty, so the slots stay in the order
+ * of the book's list. {@link #snapshot()} hands out the current root and starts a new edit. A node is only changed in
+ * place if it was created during the current edit, and is copied otherwise, so a change copies at most the path from
+ * the root to its slot and never shows in an earlier snapshot.
+ * </p>
+ * <p>
+ * The slot of an entry is found by the value of its UUID. Once at least half of the slots are empty, the tree is
+ * rebuilt without them.
+ * </p>
+ *
+ * @param <E> type of the entries in the book.
+ */
+final class SnapshotList<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private final ToIntFunction<? super E> uuidOf;
+    // the slot of the entry with each UUID value plus one, or 0 if there is none
+    private int[] slotsByUuid = new int[0];
+    private Object edit;
+    private Node root;
+    // bits of a slot index that select the child of the root, 0 while the root is a leaf
+    private int shift;
+    private int slotCount;
+    private int size;
+
+    /**
+     * Creates an empty list of entries whose UUID values are given by {@code uuidOf}.
+     */
+    SnapshotList(ToIntFunction<? super E> uuidOf) {
+        this.uuidOf = requireNonNull(uuidOf);
+        clear();
+    }
+
+    /**
+     * Replaces the entries with {@code entries}.
+     */
+    void setAll(List<? extends E> entries) {
+        clear();
+        for (E entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * Adds {@code entry} after the other entries.
+     */
+    void add(E entry) {
+        requireNonNull(entry);
+        if (slotCount == WIDTH << shift) {
+            Node grown = new Node(edit);
+            grown.slots[0] = root;
+            root = grown;
+            shift += BITS;
+        }
+        int slot = slotCount++;
+        setSlot(slot, entry);
+        mapUuid(uuidOf.applyAsInt(entry), slot);
+        size++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedEntry} in the same position. {@code target} must be an entry.
+     */
+    void replace(E target, E editedEntry) {
+        requireNonNull(editedEntry);
+        int slot = slotOf(target);
+        setSlot(slot, editedEntry);
+        unmapUuid(uuidOf.applyAsInt(target), slot);
+        mapUuid(uuidOf.applyAsInt(editedEntry), slot);
+    }
+
+    /**
+     * Removes {@code entry}, which must be an entry.
+     */
+    void remove(E entry) {
+        int slot = slotOf(entry);
+        setSlot(slot, null);
+        unmapUuid(uuidOf.applyAsInt(entry), slot);
+        size--;
+        if (slotCount > WIDTH && size <= slotCount / 2) {
+            setAll(snapshot());
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of the entries, in order, that later changes to this list do not affect.
+     */
+    List<E> snapshot() {
+        edit = new Object();
+        return new Snapshot<>(root, shift, slotCount, size);
+    }
+
+    private void clear() {
+        Arrays.fill(slotsByUuid, 0);
+        edit = new Object();
+        root = new Node(edit);
+        shift = 0;
+        slotCount = 0;
+        size = 0;
+    }
+
+    private int slotOf(E entry) {
+        int uuid = uuidOf.applyAsInt(entry);
+        if (uuid >= 0 && uuid < slotsByUuid.length && slotsByUuid[uuid] > 0) {
+            int slot = slotsByUuid[uuid] - 1;
+            if (Objects.equals(getSlot(slot), entry)) {
+                return slot;
+            }
+        }
+        // entries that share a UUID are not all mapped, so look for the entry itself
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (Objects.equals(getSlot(slot), entry)) {
+                return slot;
+            }
+        }
+        throw new IllegalArgumentException("Not an entry of this list: " + entry);
+    }
+
+    private void mapUuid(int uuid, int slot) {
+        if (uuid < 0 || uuid > Uuid.MAX_VALUE) {
+            return;
+        }
+        if (uuid >= slotsByUuid.length) {
+            slotsByUuid = Arrays.copyOf(slotsByUuid, Math.max(uuid + 1, slotsByUuid.length * 2));
+        }
+        slotsByUuid[uuid] = slot + 1;
+    }
+
+    private void unmapUuid(int uuid, int slot) {
+        if (uuid >= 0 && uuid < slotsByUuid.length && slotsByUuid[uuid] == slot + 1) {
+            slotsByUuid[uuid] = 0;
+        }
+    }
+
+    private Object getSlot(int slot) {
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.slots[(slot >>> level) & MASK];
+        }
+        return node.slots[slot & MASK];
+    }
+
+    private void setSlot(int slot, E entry) {
+        root = root.editable(edit);
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            int index = (slot >>> level) & MASK;
+            Node child = (Node) node.slots[index];
+            child = child == null ? new Node(edit) : child.editable(edit);
+            node.slots[index] = child;
+            node = child;
+        }
+        node.slots[slot & MASK] = entry;
+    }
+
+    /**
+     * A node of the tree, which holds either its children or, if it is a leaf, the entries in its slots.
+     */
+    private static final class Node {
+        // the edit the node was created in, during which it may be changed in place
+        private final Object edit;
+        private final Object[] slots;
+
+        Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+
+        private Node(Object edit, Object[] slots) {
+            this.edit = edit;
+            this.slots = slots;
+        }
+
+        /**
+         * Returns this node if it may be changed in {@code currentEdit}, or else a copy of it that may.
+         */
+        Node editable(Object currentEdit) {
+            return edit == currentEdit ? this : new Node(currentEdit, slots.clone());
+        }
+    }
+
+    /**
+     * The entries of a {@code SnapshotList} at the time the snapshot was taken.
+     * The entries are only gathered from the tree when they are first read, by whichever thread reads them.
+     */
+    private static final class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+
+        private final Node root;
+        private final int shift;
+        private final int slotCount;
+        private final int size;
+        private Object[] entries;
+
+        Snapshot(Node root, int shift, int slotCount, int size) {
+            this.root = root;
+            this.shift = shift;
+            this.slotCount = slotCount;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) getEntries()[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private synchronized Object[] getEntries() {
+            if (entries == null) {
+                Object[] gathered = new Object[size];
+                gather(root, shift, 0, gathered, 0);
+                entries = gathered;
+            }
+            return entries;
+        }
+
+        /**
+         * Copies the entries held under {@code node}, whose first slot is {@code firstSlot}, into {@code out} from
+         * index {@code count} on, and returns the number of entries in {@code out} after them.
+         */
+        private int gather(Node node, int level, int firstSlot, Object[] out, int count) {
+            for (int i = 0; i < WIDTH; i++) {
+                int slot = firstSlot + (i << level);
+                if (slot >= slotCount) {
+                    break;
+                }
+                Object child = node.slots[i];
+                if (child == null) {
+                    continue;
+                }
+                if (level == 0) {
+                    out[count++] = child;
+                } else {
+                    count = gather((Node) child, level - BITS, slot, out, count);
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues the version stamps returned by {@link ReadOnlyAddressBook#getVersion()} and
+ * {@link ReadOnlyPropertyBook#getVersion()}.
+ * Stamps are unique across all books in the application, so a stamp seen on one book is never reused by
+ * another book with different contents.
+ */
+final class VersionStamp {
+
+    private static final AtomicLong lastStamp = new AtomicLong();
+
+    private VersionStamp() {}
+
+    /**
+     * Returns a stamp that has not been returned before.
+     */
+    static long next() {
+        return lastStamp.incrementAndGet();
+    }
+}
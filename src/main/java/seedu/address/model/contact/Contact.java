@@ -2,13 +2,12 @@ package seedu.address.model.contact;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidSet;
 
 /**
  * Represents a Contact in the address book.
@@ -28,8 +27,8 @@ public class Contact {
     private final BudgetMax budgetMax;
     private final Notes notes;
     private final ContactStatus status;
-    private final Set<Uuid> buyingPropertyIds = new HashSet<>();
-    private final Set<Uuid> sellingPropertyIds = new HashSet<>();
+    private final UuidSet buyingPropertyIds;
+    private final UuidSet sellingPropertyIds;
 
     /**
      * At least name and phone must not be null.
@@ -48,8 +47,8 @@ public class Contact {
         this.budgetMax = budgetMax;
         this.notes = notes;
         this.status = status;
-        this.buyingPropertyIds.addAll(buyingPropertyIds);
-        this.sellingPropertyIds.addAll(sellingPropertyIds);
+        this.buyingPropertyIds = UuidSet.copyOf(buyingPropertyIds);
+        this.sellingPropertyIds = UuidSet.copyOf(sellingPropertyIds);
     }
 
     /**
@@ -69,8 +68,8 @@ public class Contact {
         this.budgetMax = budgetMax;
         this.notes = notes;
         this.status = status;
-        this.buyingPropertyIds.addAll(buyingPropertyIds);
-        this.sellingPropertyIds.addAll(sellingPropertyIds);
+        this.buyingPropertyIds = UuidSet.copyOf(buyingPropertyIds);
+        this.sellingPropertyIds = UuidSet.copyOf(sellingPropertyIds);
     }
 
     public Uuid getUuid() {
@@ -122,16 +121,16 @@ public class Contact {
      * Returns an immutable property index set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Uuid> getBuyingPropertyIds() {
-        return Collections.unmodifiableSet(buyingPropertyIds);
+    public UuidSet getBuyingPropertyIds() {
+        return buyingPropertyIds;
     }
 
     /**
      * Returns an immutable property index set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Uuid> getSellingPropertyIds() {
-        return Collections.unmodifiableSet(sellingPropertyIds);
+    public UuidSet getSellingPropertyIds() {
+        return sellingPropertyIds;
     }
 
     /**
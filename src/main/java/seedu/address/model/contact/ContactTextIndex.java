@@ -0,0 +1,333 @@
+package seedu.address.model.contact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maintains a trigram index over the text fields of the {@link Contact} objects in the address book.
+ * <p>
+ * Every run of three characters of a contact's lower-cased name, phone, email, address and notes is mapped to the
+ * contacts that contain it in that field, and contacts are also indexed by status. A keyword of at least three
+ * characters can only be a substring of a field that contains every trigram of the keyword, so {@link #find}
+ * takes the shortest of those posting lists as the keyword's candidates and checks only the candidates against
+ * the {@link FilterContactPredicate}. Contacts are identified by their uuid, which must be unique in the index.
+ * </p>
+ */
+public class ContactTextIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    // Field numbers, stored in the top bits of a trigram key
+    private static final int NAME = 0;
+    private static final int PHONE = 1;
+    private static final int EMAIL = 2;
+    private static final int ADDRESS = 3;
+    private static final int NOTES = 4;
+
+    private final TrigramTable byTrigram = new TrigramTable();
+    private final Map<String, PostingList> byStatus = new HashMap<>();
+    private Contact[] contactsById = new Contact[16];
+
+    /**
+     * Adds a contact to the index.
+     */
+    public void add(Contact contact) {
+        int id = contact.getUuid().getValue();
+        if (id >= contactsById.length) {
+            contactsById = Arrays.copyOf(contactsById, Math.max(id + 1, contactsById.length * 2));
+        }
+        contactsById[id] = contact;
+        for (long key : getTrigramKeys(contact)) {
+            byTrigram.getOrCreate(key).add(id);
+        }
+        byStatus.computeIfAbsent(normalizeStatus(contact.getStatus().value), unused -> new PostingList()).add(id);
+    }
+
+    /**
+     * Removes a contact from the index. If the contact is not indexed, no action is taken.
+     */
+    public void remove(Contact contact) {
+        int id = contact.getUuid().getValue();
+        if (id >= contactsById.length || contactsById[id] != contact) {
+            return;
+        }
+        contactsById[id] = null;
+        for (long key : getTrigramKeys(contact)) {
+            byTrigram.get(key).remove(id);
+        }
+        String status = normalizeStatus(contact.getStatus().value);
+        PostingList withStatus = byStatus.get(status);
+        if (withStatus != null && withStatus.remove(id) && withStatus.size == 0) {
+            byStatus.remove(status);
+        }
+    }
+
+    /**
+     * Replaces an indexed contact with {@code editedContact}, which must have the same uuid.
+     * If the indexed text of the two is the same, as when only the contact's links are edited, the posting lists are
+     * left untouched and only the reference is swapped.
+     */
+    public void replace(Contact target, Contact editedContact) {
+        int id = target.getUuid().getValue();
+        if (id == editedContact.getUuid().getValue() && id < contactsById.length && contactsById[id] == target
+                && hasSameIndexedText(target, editedContact)) {
+            contactsById[id] = editedContact;
+            return;
+        }
+        remove(target);
+        add(editedContact);
+    }
+
+    /**
+     * Removes all contacts from the index.
+     */
+    public void clear() {
+        byTrigram.clear();
+        byStatus.clear();
+        Arrays.fill(contactsById, null);
+    }
+
+    /**
+     * Returns the indexed contacts that match {@code predicate}, in no particular order.
+     * <p>
+     * A contact matches if any of the predicate's filters match, so the candidates of each keyword are united and
+     * then checked against the whole predicate. A budget filter, or a keyword too short to have a trigram, can match
+     * contacts without any indexed text in common, so such predicates are answered by testing every contact.
+     * </p>
+     */
+    public List<Contact> find(FilterContactPredicate predicate) {
+        BitSet candidates = getCandidates(predicate);
+        List<Contact> matches = new ArrayList<>();
+        if (candidates == null) {
+            for (Contact contact : contactsById) {
+                if (contact != null && predicate.test(contact)) {
+                    matches.add(contact);
+                }
+            }
+            return matches;
+        }
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (predicate.test(contactsById[id])) {
+                matches.add(contactsById[id]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ids of the contacts that can match {@code predicate}, or {@code null} if every contact can.
+     */
+    private BitSet getCandidates(FilterContactPredicate predicate) {
+        if (!predicate.hasFilters() || predicate.getBudgetMin().isPresent()
+                || predicate.getBudgetMax().isPresent()) {
+            return null;
+        }
+        BitSet candidates = new BitSet(contactsById.length);
+        boolean isIndexable = addKeywordCandidates(candidates, NAME, predicate.getNames())
+                && addKeywordCandidates(candidates, PHONE, predicate.getPhones())
+                && addKeywordCandidates(candidates, EMAIL, predicate.getEmails())
+                && addKeywordCandidates(candidates, ADDRESS, predicate.getAddresses())
+                && addKeywordCandidates(candidates, NOTES, predicate.getNotes());
+        if (!isIndexable) {
+            return null;
+        }
+        for (String status : predicate.getStatus().orElse(List.of())) {
+            PostingList withStatus = byStatus.get(normalizeStatus(status));
+            if (withStatus != null) {
+                withStatus.addTo(candidates);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Adds the candidates of each keyword to {@code candidates}.
+     *
+     * @return false if a keyword is too short to be looked up.
+     */
+    private boolean addKeywordCandidates(BitSet candidates, int field, Optional<List<String>> keywords) {
+        for (String keyword : keywords.orElse(List.of())) {
+            String needle = keyword.trim().toLowerCase();
+            if (needle.length() < GRAM_LENGTH) {
+                return false;
+            }
+            PostingList shortest = null;
+            for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+                PostingList postings = byTrigram.get(trigramKey(field, needle, i));
+                if (postings == null || postings.size == 0) {
+                    shortest = null;
+                    break;
+                }
+                if (shortest == null || postings.size < shortest.size) {
+                    shortest = postings;
+                }
+            }
+            if (shortest != null) {
+                shortest.addTo(candidates);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the distinct trigram keys of all the text fields of {@code contact}.
+     */
+    private static long[] getTrigramKeys(Contact contact) {
+        String[] fields = new String[NOTES + 1];
+        fields[NAME] = contact.getName().fullName;
+        fields[PHONE] = contact.getPhone().value;
+        fields[EMAIL] = contact.getEmail().value;
+        fields[ADDRESS] = contact.getAddress().value;
+        fields[NOTES] = contact.getNotes().value;
+
+        int total = 0;
+        for (int field = 0; field < fields.length; field++) {
+            // lower-cased the same way as StringUtil#containsSubstringIgnoreCase
+            fields[field] = fields[field].toLowerCase();
+            total += Math.max(0, fields[field].length() - GRAM_LENGTH + 1);
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (int field = 0; field < fields.length; field++) {
+            for (int i = 0; i + GRAM_LENGTH <= fields[field].length(); i++) {
+                keys[count++] = trigramKey(field, fields[field], i);
+            }
+        }
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    private static boolean hasSameIndexedText(Contact first, Contact second) {
+        return first.getName().fullName.equals(second.getName().fullName)
+                && first.getPhone().value.equals(second.getPhone().value)
+                && first.getEmail().value.equals(second.getEmail().value)
+                && first.getAddress().value.equals(second.getAddress().value)
+                && first.getNotes().value.equals(second.getNotes().value)
+                && first.getStatus().value.equals(second.getStatus().value);
+    }
+
+    private static long trigramKey(int field, String text, int start) {
+        return (long) field << 48 | (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16
+                | text.charAt(start + 2);
+    }
+
+    private static String normalizeStatus(String status) {
+        return status.trim().toLowerCase();
+    }
+
+    /**
+     * An unordered list of contact ids, held unboxed.
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Removes {@code id}, moving the last id into its place.
+         *
+         * @return true if {@code id} was in the list.
+         */
+        boolean remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void addTo(BitSet set) {
+            for (int i = 0; i < size; i++) {
+                set.set(ids[i]);
+            }
+        }
+    }
+
+    /**
+     * A hash table from trigram key to posting list, with open addressing over unboxed keys.
+     * Posting lists that become empty are kept, as the set of trigrams seen is small.
+     */
+    private static class TrigramTable {
+        private static final long EMPTY = -1;
+
+        private long[] keys = newKeys(1024);
+        private PostingList[] values = new PostingList[1024];
+        private int size;
+
+        PostingList get(long key) {
+            int slot = findSlot(keys, key);
+            return keys[slot] == EMPTY ? null : values[slot];
+        }
+
+        PostingList getOrCreate(long key) {
+            int slot = findSlot(keys, key);
+            if (keys[slot] == EMPTY) {
+                if (2 * (size + 1) > keys.length) {
+                    grow();
+                    slot = findSlot(keys, key);
+                }
+                keys[slot] = key;
+                values[slot] = new PostingList();
+                size++;
+            }
+            return values[slot];
+        }
+
+        void clear() {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            PostingList[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new PostingList[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = findSlot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        /**
+         * Returns the slot holding {@code key}, or the empty slot where it would be inserted.
+         */
+        private static int findSlot(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+}
@@ -56,12 +56,53 @@ public class FilterContactPredicate implements Predicate<Contact> {
         this.status = status;
     }
 
+    // Filters, for planning lookups in an index
+
+    public Optional<List<String>> getNames() {
+        return names;
+    }
+
+    public Optional<List<String>> getPhones() {
+        return phones;
+    }
+
+    public Optional<List<String>> getEmails() {
+        return emails;
+    }
+
+    public Optional<List<String>> getAddresses() {
+        return addresses;
+    }
+
+    public Optional<Long> getBudgetMin() {
+        return budgetMin;
+    }
+
+    public Optional<Long> getBudgetMax() {
+        return budgetMax;
+    }
+
+    public Optional<List<String>> getNotes() {
+        return notes;
+    }
+
+    public Optional<List<String>> getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns true if any filter is specified. A predicate without filters matches every contact.
+     */
+    public boolean hasFilters() {
+        return names.isPresent() || phones.isPresent() || emails.isPresent() || addresses.isPresent()
+                || budgetMin.isPresent() || budgetMax.isPresent()
+                || notes.isPresent() || status.isPresent();
+    }
+
     @Override
     public boolean test(Contact contact) {
         // If no filters are specified, don't match anything
-        if (names.isEmpty() && phones.isEmpty() && emails.isEmpty() && addresses.isEmpty()
-                && budgetMin.isEmpty() && budgetMax.isEmpty()
-                && notes.isEmpty() && status.isEmpty()) {
+        if (!hasFilters()) {
             return true; // return all
         }
 
@@ -3,8 +3,13 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,6 +21,8 @@ import seedu.address.model.contact.exceptions.DuplicateContactException;
  * A contact is considered unique by comparing using {@code Contact#equals(Contact)}. As such, adding and updating of
  * contacts uses {@code Contact#equals(Contact)} for equality to ensure that the contact being added or updated is
  * unique in terms of identity in the UniqueContactList.
+ * Since contacts are equal exactly when their phone numbers are equal, the phone numbers of all contacts in the list
+ * are kept in a hash set in sync with the list, so that identity checks do not need to scan the list.
  * Supports a minimal set of list operations.
  */
 public class UniqueContactList implements Iterable<Contact> {
@@ -23,13 +30,14 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Phone> phones = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return phones.contains(toCheck.getPhone());
     }
 
     /**
@@ -42,6 +50,7 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
         internalList.add(toAdd);
+        phones.add(toAdd.getPhone());
     }
 
     /**
@@ -61,7 +70,46 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.set(index, editedContact);
+        Contact replaced = internalList.set(index, editedContact);
+        phones.remove(replaced.getPhone());
+        phones.add(editedContact.getPhone());
+    }
+
+    /**
+     * Replaces each contact that is a key of {@code replacements} with its value, in a single change to the list.
+     * The keys must be contacts in the list, compared by reference.
+     * The contact identities of the values must not be the same as each other or as another contact in the list.
+     */
+    public void replaceContacts(Map<Contact, Contact> replacements) {
+        requireNonNull(replacements);
+        Set<Phone> targetPhones = new HashSet<>();
+        for (Contact target : replacements.keySet()) {
+            targetPhones.add(target.getPhone());
+        }
+        Set<Phone> editedPhones = new HashSet<>();
+        for (Contact editedContact : replacements.values()) {
+            Phone phone = editedContact.getPhone();
+            if (!editedPhones.add(phone) || (phones.contains(phone) && !targetPhones.contains(phone))) {
+                throw new DuplicateContactException();
+            }
+        }
+
+        List<Contact> updatedList = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        for (Contact contact : internalList) {
+            Contact editedContact = replacements.get(contact);
+            if (editedContact != null) {
+                replaced++;
+            }
+            updatedList.add(editedContact != null ? editedContact : contact);
+        }
+        if (replaced < replacements.size()) {
+            throw new ContactNotFoundException();
+        }
+
+        internalList.setAll(updatedList);
+        phones.removeAll(targetPhones);
+        phones.addAll(editedPhones);
     }
 
     /**
@@ -73,11 +121,14 @@ public class UniqueContactList implements Iterable<Contact> {
         if (!internalList.remove(toRemove)) {
             throw new ContactNotFoundException();
         }
+        phones.remove(toRemove.getPhone());
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        phones.clear();
+        phones.addAll(replacement.phones);
     }
 
     /**
@@ -86,11 +137,16 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void setContacts(List<Contact> contacts) {
         requireAllNonNull(contacts);
-        if (!contactsAreUnique(contacts)) {
-            throw new DuplicateContactException();
+        List<String> collisions = findDuplicates(contacts);
+        if (!collisions.isEmpty()) {
+            throw new DuplicateContactException(String.join("; ", collisions));
         }
 
         internalList.setAll(contacts);
+        phones.clear();
+        for (Contact contact : contacts) {
+            phones.add(contact.getPhone());
+        }
     }
 
     /**
@@ -131,16 +187,21 @@ public class UniqueContactList implements Iterable<Contact> {
     }
 
     /**
-     * Returns true if {@code contacts} contains only unique contacts.
+     * Returns a description of every contact in {@code contacts} whose phone number collides with an earlier one,
+     * or an empty list if all contacts are unique.
+     * Runs in a single hashed pass over the phone numbers.
      */
-    private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).equals(contacts.get(j))) {
-                    return false;
-                }
+    private static List<String> findDuplicates(List<Contact> contacts) {
+        Map<Phone, Integer> firstIndexOfPhone = new HashMap<>(contacts.size() * 2);
+        List<String> collisions = new ArrayList<>();
+        for (int i = 0; i < contacts.size(); i++) {
+            Contact contact = contacts.get(i);
+            Integer firstIndex = firstIndexOfPhone.putIfAbsent(contact.getPhone(), i);
+            if (firstIndex != null) {
+                collisions.add(String.format("entry %d (%s, %s) duplicates entry %d", i + 1,
+                        contact.getName(), contact.getPhone(), firstIndex + 1));
             }
         }
-        return true;
+        return collisions;
     }
 }
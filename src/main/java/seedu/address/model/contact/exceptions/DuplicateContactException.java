@@ -8,4 +8,11 @@ public class DuplicateContactException extends RuntimeException {
     public DuplicateContactException() {
         super("Operation would result in duplicate contacts");
     }
+
+    /**
+     * Creates the exception with a description of the contacts that collided.
+     */
+    public DuplicateContactException(String collisions) {
+        super("Operation would result in duplicate contacts: " + collisions);
+    }
 }
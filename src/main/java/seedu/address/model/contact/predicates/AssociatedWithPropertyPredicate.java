@@ -1,5 +1,6 @@
 package seedu.address.model.contact.predicates;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.model.contact.Contact;
@@ -13,15 +14,39 @@ import seedu.address.model.uuid.Uuid;
 public class AssociatedWithPropertyPredicate implements Predicate<Contact> {
 
     private final Uuid propertyUuid;
-    private final Iterable<Property> allProperties;
+    private final Function<Uuid, Property> propertyLookup;
 
     /**
+     * Creates a predicate that looks the property up in {@code allProperties}.
+     * The properties are searched once, here, rather than for every contact tested.
+     *
      * @param propertyUuid UUID of the property to check association against.
      * @param allProperties All properties available (usually from the PropertyBook).
      */
     public AssociatedWithPropertyPredicate(Uuid propertyUuid, Iterable<Property> allProperties) {
+        this(propertyUuid, findProperty(propertyUuid, allProperties));
+    }
+
+    /**
+     * Creates a predicate that looks the property up with {@code propertyLookup}, such as
+     * {@code PropertyBook#getPropertyById}, which should take constant time. Each contact tested sees the
+     * property as it is at the time of the test.
+     *
+     * @param propertyUuid UUID of the property to check association against.
+     * @param propertyLookup Returns the property with a given UUID, or {@code null} if there is none.
+     */
+    public AssociatedWithPropertyPredicate(Uuid propertyUuid, Function<Uuid, Property> propertyLookup) {
         this.propertyUuid = propertyUuid;
-        this.allProperties = allProperties;
+        this.propertyLookup = propertyLookup;
+    }
+
+    private static Function<Uuid, Property> findProperty(Uuid propertyUuid, Iterable<Property> allProperties) {
+        for (Property property : allProperties) {
+            if (property.getUuid().equals(propertyUuid)) {
+                return unused -> property;
+            }
+        }
+        return unused -> null;
     }
 
     @Override
@@ -30,14 +55,9 @@ public class AssociatedWithPropertyPredicate implements Predicate<Contact> {
             return false;
         }
 
-        // Find the property with matching UUID and check if contact is associated
-        for (Property property : allProperties) {
-            if (property.getUuid().equals(propertyUuid)) {
-                return property.isAssociatedWith(contact.getUuid());
-            }
-        }
-
-        return false;
+        // Membership is answered from the property's owner and its buying and selling contact ids
+        Property property = propertyLookup.apply(propertyUuid);
+        return property != null && property.isAssociatedWith(contact.getUuid());
     }
 
     @Override
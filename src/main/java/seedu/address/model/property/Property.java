@@ -2,12 +2,12 @@ package seedu.address.model.property;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidSet;
 
 /**
  * Represents a Property in the property book.
@@ -29,8 +29,19 @@ public class Property {
     private final Status status;
     private final Type type;
     private final Owner owner;
-    private final Set<Uuid> buyingContactIds = new HashSet<>();
-    private final Set<Uuid> sellingContactIds = new HashSet<>();
+    private final UuidSet buyingContactIds;
+    private final UuidSet sellingContactIds;
+
+    // Normalized identity, computed once so that identity checks do not re-run the whitespace regex
+    private final String identityKey;
+
+    // Normalized search fields, computed once so that filtering does not parse or allocate per property
+    private final String searchableAddress;
+    private final String searchableOwner;
+    private final long priceValue;
+    private final int floorAreaValue;
+    private final int bedroomCount;
+    private final int bathroomCount;
 
     /**
      * Constructs a {@code Property}.
@@ -50,8 +61,15 @@ public class Property {
         this.status = status;
         this.type = type;
         this.owner = owner;
-        this.buyingContactIds.addAll(buyingContactIds);
-        this.sellingContactIds.addAll(sellingContactIds);
+        this.buyingContactIds = UuidSet.copyOf(buyingContactIds);
+        this.sellingContactIds = UuidSet.copyOf(sellingContactIds);
+        this.identityKey = postal.value + address.value.replaceAll("\\s+", "");
+        this.searchableAddress = address.value.toLowerCase(Locale.ROOT);
+        this.searchableOwner = owner.value.toLowerCase(Locale.ROOT);
+        this.priceValue = Long.parseLong(price.value);
+        this.floorAreaValue = Integer.parseInt(floorArea.value);
+        this.bedroomCount = Integer.parseInt(bedroom.value);
+        this.bathroomCount = Integer.parseInt(bathroom.value);
     }
 
     /**
@@ -104,20 +122,50 @@ public class Property {
         return owner;
     }
 
+    /**
+     * Returns the address in lower case, for case-insensitive matching.
+     */
+    public String getSearchableAddress() {
+        return searchableAddress;
+    }
+
+    /**
+     * Returns the owner in lower case, for case-insensitive matching.
+     */
+    public String getSearchableOwner() {
+        return searchableOwner;
+    }
+
+    public long getPriceValue() {
+        return priceValue;
+    }
+
+    public int getFloorAreaValue() {
+        return floorAreaValue;
+    }
+
+    public int getBedroomCount() {
+        return bedroomCount;
+    }
+
+    public int getBathroomCount() {
+        return bathroomCount;
+    }
+
     /**
      * Returns an immutable contact index set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Uuid> getBuyingContactIds() {
-        return Collections.unmodifiableSet(buyingContactIds);
+    public UuidSet getBuyingContactIds() {
+        return buyingContactIds;
     }
 
     /**
      * Returns an immutable contact index set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Uuid> getSellingContactIds() {
-        return Collections.unmodifiableSet(sellingContactIds);
+    public UuidSet getSellingContactIds() {
+        return sellingContactIds;
     }
 
     /**
@@ -177,9 +225,15 @@ public class Property {
         }
 
         return otherProperty != null
-                && otherProperty.getPropertyAddress().value.replaceAll("\\s+", "")
-                    .equals(getPropertyAddress().value.replaceAll("\\s+", ""))
-                && otherProperty.getPostal().equals(getPostal());
+                && otherProperty.identityKey.equals(identityKey);
+    }
+
+    /**
+     * Returns the normalized identity of this property, i.e. its postal code followed by its address with all
+     * whitespace removed. Two properties have the same identity key if and only if {@link #isSameProperty} holds.
+     */
+    String getIdentityKey() {
+        return identityKey;
     }
 
     @Override
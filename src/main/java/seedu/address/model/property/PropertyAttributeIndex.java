@@ -0,0 +1,163 @@
+package seedu.address.model.property;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+
+/**
+ * Maintains secondary indexes over the attributes of the {@link Property} objects in the property book.
+ * <p>
+ * Postal code, owner, type and status are indexed by hash; price, floor area, bedroom and bathroom counts are kept
+ * sorted by their primitive value, so both exact values and ranges are found by binary search. {@link #find} uses
+ * the indexes to answer a {@link PropertyMatchesFilterPredicate} without scanning every property. Properties are
+ * held by reference, so the instance passed to {@link #remove} must be the one that was added.
+ * </p>
+ */
+public class PropertyAttributeIndex {
+
+    private final Map<String, Set<Property>> byPostal = new HashMap<>();
+    private final Map<String, Set<Property>> byOwner = new HashMap<>();
+    private final Map<String, Set<Property>> byType = new HashMap<>();
+    private final Map<String, Set<Property>> byStatus = new HashMap<>();
+    private final SortedLongIndex byPrice = new SortedLongIndex(Property::getPriceValue);
+    private final SortedLongIndex byFloorArea = new SortedLongIndex(Property::getFloorAreaValue);
+    private final SortedLongIndex byBedroom = new SortedLongIndex(Property::getBedroomCount);
+    private final SortedLongIndex byBathroom = new SortedLongIndex(Property::getBathroomCount);
+
+    /**
+     * Adds a property to every index.
+     */
+    public void add(Property property) {
+        addToHashIndexes(property);
+        byPrice.add(property);
+        byFloorArea.add(property);
+        byBedroom.add(property);
+        byBathroom.add(property);
+    }
+
+    /**
+     * Adds the given properties to every index. Faster than adding them one at a time.
+     */
+    public void addAll(Collection<Property> properties) {
+        for (Property property : properties) {
+            addToHashIndexes(property);
+        }
+        byPrice.addAll(properties);
+        byFloorArea.addAll(properties);
+        byBedroom.addAll(properties);
+        byBathroom.addAll(properties);
+    }
+
+    /**
+     * Removes a property from every index. If the property is not indexed, no action is taken.
+     */
+    public void remove(Property property) {
+        removeFrom(byPostal, property.getPostal().value, property);
+        removeFrom(byOwner, property.getSearchableOwner(), property);
+        removeFrom(byType, property.getType().value, property);
+        removeFrom(byStatus, property.getStatus().value, property);
+        byPrice.remove(property);
+        byFloorArea.remove(property);
+        byBedroom.remove(property);
+        byBathroom.remove(property);
+    }
+
+    /**
+     * Removes all properties from the indexes.
+     */
+    public void clear() {
+        byPostal.clear();
+        byOwner.clear();
+        byType.clear();
+        byStatus.clear();
+        byPrice.clear();
+        byFloorArea.clear();
+        byBedroom.clear();
+        byBathroom.clear();
+    }
+
+    /**
+     * Returns the indexed properties that match {@code predicate}, in no particular order.
+     * <p>
+     * Every filter with an index narrows the properties down to a candidate collection whose size is known
+     * up front: a hash bucket, or a slice of a sorted index found by binary search. Only the smallest candidate
+     * collection is walked, and each candidate is checked against the whole predicate. Without any indexed
+     * filter, {@code allProperties} is scanned.
+     * </p>
+     *
+     * @param allProperties every indexed property, used when no index applies.
+     */
+    public List<Property> find(PropertyMatchesFilterPredicate predicate, Collection<Property> allProperties) {
+        if (predicate.isUnsatisfiable()) {
+            return List.of();
+        }
+
+        Collection<Property> candidates = allProperties;
+        candidates = smaller(candidates, byPostal, predicate.getPostal());
+        candidates = smaller(candidates, byOwner, predicate.getOwner());
+        candidates = smaller(candidates, byType, predicate.getType());
+        candidates = smaller(candidates, byStatus, predicate.getStatus());
+        candidates = smaller(candidates, byPrice, predicate.getLowestPrice(), predicate.getHighestPrice());
+        candidates = smaller(candidates, byFloorArea,
+                predicate.getSmallestFloorArea(), predicate.getLargestFloorArea());
+        candidates = smaller(candidates, byBedroom, predicate.getFewestBedrooms(), predicate.getMostBedrooms());
+        candidates = smaller(candidates, byBathroom, predicate.getFewestBathrooms(), predicate.getMostBathrooms());
+
+        List<Property> matches = new ArrayList<>();
+        for (Property candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the hash bucket of {@code key} if a filter is set and the bucket is smaller than {@code candidates}.
+     */
+    private static Collection<Property> smaller(Collection<Property> candidates, Map<String, Set<Property>> index,
+            String key) {
+        if (key == null) {
+            return candidates;
+        }
+        Set<Property> bucket = index.getOrDefault(key, Set.of());
+        return bucket.size() < candidates.size() ? bucket : candidates;
+    }
+
+    /**
+     * Returns the properties in the range if it is smaller than {@code candidates}. Counting the range is a pair of
+     * binary searches, so the slice is only taken when it will be walked.
+     */
+    private static Collection<Property> smaller(Collection<Property> candidates, SortedLongIndex index,
+            long lowest, long highest) {
+        if (lowest == 0 && highest == PropertyMatchesFilterPredicate.UNBOUNDED) {
+            return candidates;
+        }
+        return index.count(lowest, highest) < candidates.size() ? index.range(lowest, highest) : candidates;
+    }
+
+    private void addToHashIndexes(Property property) {
+        addTo(byPostal, property.getPostal().value, property);
+        addTo(byOwner, property.getSearchableOwner(), property);
+        addTo(byType, property.getType().value, property);
+        addTo(byStatus, property.getStatus().value, property);
+    }
+
+    private static void addTo(Map<String, Set<Property>> index, String key, Property property) {
+        index.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(property);
+    }
+
+    private static void removeFrom(Map<String, Set<Property>> index, String key, Property property) {
+        Set<Property> properties = index.get(key);
+        if (properties != null && properties.remove(property) && properties.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
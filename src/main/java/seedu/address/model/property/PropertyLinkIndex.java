@@ -0,0 +1,223 @@
+package seedu.address.model.property;
+
+import java.util.Arrays;
+
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Maintains a bidirectional adjacency index of the links between the {@link Property} objects in the property book
+ * and their contacts.
+ * <p>
+ * For each kind of {@link Link}, the ids of the contacts linked to a property, and the ids of the properties linked
+ * to a contact, are held as sorted primitive int sets in arrays indexed by id. Finding the neighbours of a property
+ * or of a contact therefore takes time proportional to the number of neighbours, instead of a scan of every
+ * property. The index is built from each property's owner and its buying and selling contact ids, and is updated
+ * whenever a property is added, replaced or removed, so it always agrees with the properties in the book.
+ * </p>
+ */
+public class PropertyLinkIndex {
+
+    /**
+     * The ways in which a contact can be linked to a property.
+     */
+    public enum Link {
+        OWNER, BUYER, SELLER
+    }
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final IdSet[][] contactsByProperty = new IdSet[Link.values().length][];
+    private final IdSet[][] propertiesByContact = new IdSet[Link.values().length][];
+
+    /**
+     * Creates an empty index.
+     */
+    public PropertyLinkIndex() {
+        clear();
+    }
+
+    /**
+     * Adds the links of a property to the index.
+     */
+    public void add(Property property) {
+        int propertyId = property.getUuid().getValue();
+        int ownerId = getOwnerId(property);
+        if (ownerId > 0) {
+            addLink(Link.OWNER, propertyId, ownerId);
+        }
+        property.getBuyingContactIds().forEachValue(contactId -> addLink(Link.BUYER, propertyId, contactId));
+        property.getSellingContactIds().forEachValue(contactId -> addLink(Link.SELLER, propertyId, contactId));
+    }
+
+    /**
+     * Removes the links of a property from the index. Links that are not indexed are ignored.
+     */
+    public void remove(Property property) {
+        int propertyId = property.getUuid().getValue();
+        int ownerId = getOwnerId(property);
+        if (ownerId > 0) {
+            removeLink(Link.OWNER, propertyId, ownerId);
+        }
+        property.getBuyingContactIds().forEachValue(contactId -> removeLink(Link.BUYER, propertyId, contactId));
+        property.getSellingContactIds().forEachValue(contactId -> removeLink(Link.SELLER, propertyId, contactId));
+    }
+
+    /**
+     * Removes all links from the index.
+     */
+    public void clear() {
+        for (int link = 0; link < contactsByProperty.length; link++) {
+            contactsByProperty[link] = new IdSet[16];
+            propertiesByContact[link] = new IdSet[16];
+        }
+    }
+
+    /**
+     * Returns the ids, in ascending order, of the contacts linked to the property with id {@code propertyId}
+     * by {@code link}.
+     */
+    public int[] getContactIds(int propertyId, Link link) {
+        return getIds(contactsByProperty[link.ordinal()], propertyId);
+    }
+
+    /**
+     * Returns the ids, in ascending order, of the properties linked to the contact with id {@code contactId}
+     * by {@code link}.
+     */
+    public int[] getPropertyIds(int contactId, Link link) {
+        return getIds(propertiesByContact[link.ordinal()], contactId);
+    }
+
+    /**
+     * Returns the ids, in ascending order and without repeats, of the contacts linked to the property with id
+     * {@code propertyId} in any way.
+     */
+    public int[] getAssociatedContactIds(int propertyId) {
+        return union(contactsByProperty, propertyId);
+    }
+
+    /**
+     * Returns the ids, in ascending order and without repeats, of the properties linked to the contact with id
+     * {@code contactId} in any way.
+     */
+    public int[] getAssociatedPropertyIds(int contactId) {
+        return union(propertiesByContact, contactId);
+    }
+
+    private void addLink(Link link, int propertyId, int contactId) {
+        int kind = link.ordinal();
+        contactsByProperty[kind] = withSetAt(contactsByProperty[kind], propertyId);
+        contactsByProperty[kind][propertyId].add(contactId);
+        propertiesByContact[kind] = withSetAt(propertiesByContact[kind], contactId);
+        propertiesByContact[kind][contactId].add(propertyId);
+    }
+
+    private void removeLink(Link link, int propertyId, int contactId) {
+        int kind = link.ordinal();
+        removeFrom(contactsByProperty[kind], propertyId, contactId);
+        removeFrom(propertiesByContact[kind], contactId, propertyId);
+    }
+
+    /**
+     * Returns the contact id that the owner of {@code property} refers to, or 0 if it does not refer to one.
+     * Only the canonical decimal form counts, as in {@link Property#isOwnedBy}, and only up to {@link Uuid#MAX_VALUE},
+     * since no contact can have a larger id and the id is used as an array position.
+     */
+    private static int getOwnerId(Property property) {
+        String owner = property.getOwner().value;
+        if (owner.isEmpty() || owner.length() > 9 || owner.charAt(0) == '0') {
+            return 0;
+        }
+        int id = 0;
+        for (int i = 0; i < owner.length(); i++) {
+            char c = owner.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id <= Uuid.MAX_VALUE ? id : 0;
+    }
+
+    /**
+     * Returns {@code sets}, grown if needed, with a set at position {@code id}.
+     */
+    private static IdSet[] withSetAt(IdSet[] sets, int id) {
+        IdSet[] result = id < sets.length ? sets : Arrays.copyOf(sets, Math.max(id + 1, sets.length * 2));
+        if (result[id] == null) {
+            result[id] = new IdSet();
+        }
+        return result;
+    }
+
+    private static void removeFrom(IdSet[] sets, int id, int toRemove) {
+        if (id < sets.length && sets[id] != null) {
+            sets[id].remove(toRemove);
+            if (sets[id].size == 0) {
+                sets[id] = null;
+            }
+        }
+    }
+
+    private static int[] getIds(IdSet[] sets, int id) {
+        if (id < 0 || id >= sets.length || sets[id] == null) {
+            return NO_IDS;
+        }
+        return Arrays.copyOf(sets[id].ids, sets[id].size);
+    }
+
+    private static int[] union(IdSet[][] setsByLink, int id) {
+        int total = 0;
+        for (IdSet[] sets : setsByLink) {
+            if (id >= 0 && id < sets.length && sets[id] != null) {
+                total += sets[id].size;
+            }
+        }
+        int[] ids = new int[total];
+        int count = 0;
+        for (IdSet[] sets : setsByLink) {
+            if (id >= 0 && id < sets.length && sets[id] != null) {
+                System.arraycopy(sets[id].ids, 0, ids, count, sets[id].size);
+                count += sets[id].size;
+            }
+        }
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * A sorted set of ids, held unboxed.
+     */
+    private static class IdSet {
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+                size--;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.property;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Maintains a registry of all {@link Property} objects in the property book.
+ * <p>
+ * Each property is stored in a {@link Map}, keyed by its unique {@link Uuid}.
+ * This allows for efficient lookup, addition, and removal of properties by ID.
+ * </p>
+ */
+public class PropertyRegistry {
+    private final Map<Integer, Property> propertyMap = new HashMap<>();
+
+    /**
+     * Adds a property to the registry.
+     * If a property with the same UUID already exists, it will be replaced.
+     *
+     * @param property The property to add. Must not be {@code null}.
+     */
+    public void addProperty(Property property) {
+        propertyMap.put(property.getUuid().getValue(), property);
+    }
+
+    /**
+     * Retrieves a property from the registry by its unique ID.
+     *
+     * @param id The unique UUID of the property.
+     * @return The {@link Property} associated with the given ID, or {@code null} if not found.
+     */
+    public Property getProperty(Integer id) {
+        return propertyMap.get(id);
+    }
+
+    /**
+     * Checks whether a property with the given ID exists in the registry.
+     *
+     * @param id The unique UUID of the property.
+     * @return {@code true} if the registry contains a property with the given ID,
+     *         {@code false} otherwise.
+     */
+    public boolean containsId(Integer id) {
+        return propertyMap.containsKey(id);
+    }
+
+    /**
+     * Removes a property from the registry by its ID.
+     * If no property with the given ID exists, no action is taken.
+     *
+     * @param id The unique UUID of the property to remove.
+     */
+    public void removeProperty(Integer id) {
+        propertyMap.remove(id);
+    }
+
+    /**
+     * Removes all properties from the registry.
+     */
+    public void clear() {
+        propertyMap.clear();
+    }
+}
@@ -0,0 +1,317 @@
+package seedu.address.model.property;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps properties sorted by a {@code long} key, so that the properties with a key in a range are counted in
+ * O(log n) and listed in O(k).
+ * <p>
+ * Entries are ordered by key, then by uuid, and stored unboxed in a list of sorted chunks of at most
+ * {@code CHUNK_CAPACITY} entries. A lookup is a binary search over the chunks followed by one within a chunk, and
+ * adding or removing a property only shifts the entries of its chunk, so the index can be built one property at a
+ * time, as storage does when it loads the property book. Properties are held by reference, so the instance passed
+ * to {@link #remove} must be the one that was added.
+ * </p>
+ */
+class SortedLongIndex {
+
+    private static final int CHUNK_CAPACITY = 512;
+
+    private final ToLongFunction<Property> keyFunction;
+    private final List<Chunk> chunks = new ArrayList<>();
+    // Number of entries before each chunk; rebuilt lazily, as only range queries need it
+    private int[] chunkOffsets = new int[0];
+    private boolean isOffsetsStale;
+    private int size;
+
+    SortedLongIndex(ToLongFunction<Property> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Adds a property.
+     */
+    void add(Property property) {
+        long key = keyFunction.applyAsLong(property);
+        int id = property.getUuid().getValue();
+        if (chunks.isEmpty()) {
+            chunks.add(new Chunk());
+        }
+        int chunkIndex = Math.max(0, findChunk(key, id));
+        Chunk chunk = chunks.get(chunkIndex);
+        if (chunk.size == CHUNK_CAPACITY) {
+            Chunk upperHalf = chunk.split();
+            chunks.add(chunkIndex + 1, upperHalf);
+            if (upperHalf.compareFirst(key, id) <= 0) {
+                chunk = upperHalf;
+            }
+        }
+        chunk.insert(key, id, property);
+        size++;
+        isOffsetsStale = true;
+    }
+
+    /**
+     * Adds all the given properties, sorting them once instead of inserting them one at a time.
+     */
+    void addAll(Collection<Property> toAdd) {
+        List<Property> all = new ArrayList<>(size + toAdd.size());
+        for (Chunk chunk : chunks) {
+            all.addAll(Arrays.asList(chunk.properties).subList(0, chunk.size));
+        }
+        all.addAll(toAdd);
+        all.sort(Comparator.<Property>comparingLong(keyFunction).thenComparingInt(p -> p.getUuid().getValue()));
+
+        chunks.clear();
+        for (int from = 0; from < all.size(); from += CHUNK_CAPACITY) {
+            Chunk chunk = new Chunk();
+            for (Property property : all.subList(from, Math.min(all.size(), from + CHUNK_CAPACITY))) {
+                chunk.append(keyFunction.applyAsLong(property), property.getUuid().getValue(), property);
+            }
+            chunks.add(chunk);
+        }
+        size = all.size();
+        isOffsetsStale = true;
+    }
+
+    /**
+     * Removes a property. If the property is not in the index, no action is taken.
+     */
+    void remove(Property property) {
+        long key = keyFunction.applyAsLong(property);
+        int id = property.getUuid().getValue();
+        int chunkIndex = findChunk(key, id);
+        if (chunkIndex < 0) {
+            return;
+        }
+        Chunk chunk = chunks.get(chunkIndex);
+        int position = chunk.lowerBound(key, id);
+        if (position == chunk.size || chunk.properties[position] != property) {
+            return;
+        }
+        chunk.delete(position);
+        if (chunk.size == 0) {
+            chunks.remove(chunkIndex);
+        }
+        size--;
+        isOffsetsStale = true;
+    }
+
+    /**
+     * Removes all properties from the index.
+     */
+    void clear() {
+        chunks.clear();
+        size = 0;
+        isOffsetsStale = true;
+    }
+
+    /**
+     * Returns the number of properties whose key is between {@code lowest} and {@code highest} inclusive.
+     */
+    int count(long lowest, long highest) {
+        if (lowest > highest) {
+            return 0;
+        }
+        return rankAfter(highest) - rankBefore(lowest);
+    }
+
+    /**
+     * Returns the properties whose key is between {@code lowest} and {@code highest} inclusive, in key order.
+     * The returned collection is a view that is only valid until the index is next modified.
+     */
+    Collection<Property> range(long lowest, long highest) {
+        int from = rankBefore(lowest);
+        int count = count(lowest, highest);
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Property> iterator() {
+                return new RangeIterator(from, count);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of entries with a key less than {@code key}.
+     */
+    private int rankBefore(long key) {
+        return rank(key, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the number of entries with a key of at most {@code key}.
+     */
+    private int rankAfter(long key) {
+        return key == Long.MAX_VALUE ? size : rank(key + 1, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the number of entries that sort before ({@code key}, {@code id}).
+     */
+    private int rank(long key, int id) {
+        int chunkIndex = findChunk(key, id);
+        if (chunkIndex < 0) {
+            return 0;
+        }
+        return getOffsets()[chunkIndex] + chunks.get(chunkIndex).lowerBound(key, id);
+    }
+
+    /**
+     * Returns the index of the last chunk whose first entry sorts at or before ({@code key}, {@code id}),
+     * or -1 if there is none.
+     */
+    private int findChunk(long key, int id) {
+        int low = 0;
+        int high = chunks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunks.get(mid).compareFirst(key, id) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private int[] getOffsets() {
+        if (isOffsetsStale) {
+            chunkOffsets = new int[chunks.size()];
+            int offset = 0;
+            for (int i = 0; i < chunks.size(); i++) {
+                chunkOffsets[i] = offset;
+                offset += chunks.get(i).size;
+            }
+            isOffsetsStale = false;
+        }
+        return chunkOffsets;
+    }
+
+    /**
+     * Walks {@code remaining} entries of the index, starting at the entry with rank {@code from}.
+     */
+    private class RangeIterator implements Iterator<Property> {
+        private int chunkIndex;
+        private int position;
+        private int remaining;
+
+        RangeIterator(int from, int remaining) {
+            this.remaining = remaining;
+            if (remaining > 0) {
+                int[] offsets = getOffsets();
+                int index = Arrays.binarySearch(offsets, from);
+                // chunks are never empty, so the offsets are distinct and a miss lies inside the previous chunk
+                chunkIndex = index >= 0 ? index : -index - 2;
+                position = from - offsets[chunkIndex];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Property next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            Chunk chunk = chunks.get(chunkIndex);
+            Property next = chunk.properties[position++];
+            if (position == chunk.size) {
+                chunkIndex++;
+                position = 0;
+            }
+            remaining--;
+            return next;
+        }
+    }
+
+    /**
+     * A run of entries sorted by key, then by uuid, held in parallel arrays.
+     */
+    private static class Chunk {
+        private final long[] keys = new long[CHUNK_CAPACITY];
+        private final int[] ids = new int[CHUNK_CAPACITY];
+        private final Property[] properties = new Property[CHUNK_CAPACITY];
+        private int size;
+
+        /**
+         * Compares the first entry of this chunk with ({@code key}, {@code id}).
+         */
+        int compareFirst(long key, int id) {
+            int byKey = Long.compare(keys[0], key);
+            return byKey != 0 ? byKey : Integer.compare(ids[0], id);
+        }
+
+        /**
+         * Returns the position of the first entry that does not sort before ({@code key}, {@code id}).
+         */
+        int lowerBound(long key, int id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key || (keys[mid] == key && ids[mid] < id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void insert(long key, int id, Property property) {
+            int position = lowerBound(key, id);
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(properties, position, properties, position + 1, size - position);
+            keys[position] = key;
+            ids[position] = id;
+            properties[position] = property;
+            size++;
+        }
+
+        void append(long key, int id, Property property) {
+            keys[size] = key;
+            ids[size] = id;
+            properties[size] = property;
+            size++;
+        }
+
+        void delete(int position) {
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(properties, position + 1, properties, position, size - position - 1);
+            properties[--size] = null;
+        }
+
+        /**
+         * Moves the upper half of the entries into a new chunk and returns it.
+         */
+        Chunk split() {
+            Chunk upperHalf = new Chunk();
+            int half = size / 2;
+            upperHalf.size = size - half;
+            System.arraycopy(keys, half, upperHalf.keys, 0, upperHalf.size);
+            System.arraycopy(ids, half, upperHalf.ids, 0, upperHalf.size);
+            System.arraycopy(properties, half, upperHalf.properties, 0, upperHalf.size);
+            Arrays.fill(properties, half, size, null);
+            size = half;
+            return upperHalf;
+        }
+    }
+}
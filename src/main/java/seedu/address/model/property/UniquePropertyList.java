@@ -3,8 +3,13 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +29,9 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identity keys of all properties in the list are kept in a hash set in sync with the list, so that identity
+ * checks do not need to scan the list.
+ *
  * @see Property#isSameProperty(Property)
  */
 public class UniquePropertyList implements Iterable<Property> {
@@ -31,6 +39,7 @@ public class UniquePropertyList implements Iterable<Property> {
     private final ObservableList<Property> internalList = FXCollections.observableArrayList();
     private final ObservableList<Property> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    private final Set<String> identityKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent property as the given
@@ -38,7 +47,7 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return identityKeys.contains(toCheck.getIdentityKey());
     }
 
     /**
@@ -51,6 +60,7 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
         internalList.add(toAdd);
+        identityKeys.add(toAdd.getIdentityKey());
     }
 
     /**
@@ -71,7 +81,46 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
-        internalList.set(index, editedProperty);
+        Property replaced = internalList.set(index, editedProperty);
+        identityKeys.remove(replaced.getIdentityKey());
+        identityKeys.add(editedProperty.getIdentityKey());
+    }
+
+    /**
+     * Replaces each property that is a key of {@code replacements} with its value, in a single change to the list.
+     * The keys must be properties in the list, compared by reference.
+     * The property identities of the values must not be the same as each other or as another property in the list.
+     */
+    public void replaceProperties(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+        Set<String> targetKeys = new HashSet<>();
+        for (Property target : replacements.keySet()) {
+            targetKeys.add(target.getIdentityKey());
+        }
+        Set<String> editedKeys = new HashSet<>();
+        for (Property editedProperty : replacements.values()) {
+            String key = editedProperty.getIdentityKey();
+            if (!editedKeys.add(key) || (identityKeys.contains(key) && !targetKeys.contains(key))) {
+                throw new DuplicatePropertyException();
+            }
+        }
+
+        List<Property> updatedList = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        for (Property property : internalList) {
+            Property editedProperty = replacements.get(property);
+            if (editedProperty != null) {
+                replaced++;
+            }
+            updatedList.add(editedProperty != null ? editedProperty : property);
+        }
+        if (replaced < replacements.size()) {
+            throw new PropertyNotFoundException();
+        }
+
+        internalList.setAll(updatedList);
+        identityKeys.removeAll(targetKeys);
+        identityKeys.addAll(editedKeys);
     }
 
     /**
@@ -83,6 +132,8 @@ public class UniquePropertyList implements Iterable<Property> {
         if (!internalList.remove(toRemove)) {
             throw new PropertyNotFoundException();
         }
+        // equal properties share the same identity, so the removed element has the same key as toRemove
+        identityKeys.remove(toRemove.getIdentityKey());
     }
 
     /**
@@ -91,11 +142,16 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public void setProperties(List<Property> properties) {
         requireAllNonNull(properties);
-        if (!propertiesAreUnique(properties)) {
-            throw new DuplicatePropertyException();
+        List<String> collisions = findDuplicates(properties);
+        if (!collisions.isEmpty()) {
+            throw new DuplicatePropertyException(String.join("; ", collisions));
         }
 
         internalList.setAll(properties);
+        identityKeys.clear();
+        for (Property property : properties) {
+            identityKeys.add(property.getIdentityKey());
+        }
     }
 
     /**
@@ -136,16 +192,21 @@ public class UniquePropertyList implements Iterable<Property> {
     }
 
     /**
-     * Returns true if {@code properties} contains only unique properties.
+     * Returns a description of every property in {@code properties} whose identity collides with an earlier one,
+     * or an empty list if all properties are unique.
+     * Runs in a single pass over the precomputed identity keys.
      */
-    private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
+    private static List<String> findDuplicates(List<Property> properties) {
+        Map<String, Integer> firstIndexOfKey = new HashMap<>(properties.size() * 2);
+        List<String> collisions = new ArrayList<>();
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            Integer firstIndex = firstIndexOfKey.putIfAbsent(property.getIdentityKey(), i);
+            if (firstIndex != null) {
+                collisions.add(String.format("entry %d (%s, %s) duplicates entry %d", i + 1,
+                        property.getPropertyAddress(), property.getPostal(), firstIndex + 1));
             }
         }
-        return true;
+        return collisions;
     }
 }
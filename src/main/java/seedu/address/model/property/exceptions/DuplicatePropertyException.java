@@ -9,4 +9,11 @@ public class DuplicatePropertyException extends RuntimeException {
     public DuplicatePropertyException() {
         super("Operation would result in duplicate properties");
     }
+
+    /**
+     * Creates the exception with a description of the properties that collided.
+     */
+    public DuplicatePropertyException(String collisions) {
+        super("Operation would result in duplicate properties: " + collisions);
+    }
 }
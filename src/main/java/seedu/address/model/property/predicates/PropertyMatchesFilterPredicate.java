@@ -2,19 +2,30 @@ package seedu.address.model.property.predicates;
 
 import java.util.Locale;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import seedu.address.model.property.Property;
 
 /**
  * Checks if a Property matches all filter conditions (logical AND).
- * Uses case-insensitive substring for text fields; equals for enums; exact match for numbers.
+ * Uses case-insensitive substring for text fields; equals for enums; exact match or inclusive ranges for numbers.
  *
- * - Price is an integer-like String (no decimals)
+ * - Price is an integer-like String (no decimals); the price filter is an upper bound
  * - Type allowed: HDB, Condo, Landed, Apartment, Office, Others
  * - Status allowed: listed, sold, rented, off-market
+ *
+ * The filters are compiled once, when the predicate is built, into lower-case needles and inclusive numeric ranges
+ * that are compared against the search fields each {@link Property} caches, so {@link #test} neither parses nor
+ * allocates. An exact numeric filter compiles to a range holding one value, and is combined with any minimum and
+ * maximum given for the same field.
  */
 public class PropertyMatchesFilterPredicate implements Predicate<Property> {
 
+    /** Upper end of a compiled range whose maximum is not set. The lower end of such a range is 0. */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private static final long NOT_A_NUMBER = -1;
+
     private final String address; // substring (case-insensitive)
     private final String postal; // 6-digit integer string
     private final String type; // equalsIgnoreCase to Type.toString()
@@ -24,6 +35,26 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
     private final String price; // integer string (no commas)
     private final String status; // equalsIgnoreCase to Status.toString()
     private final String owner; // substring of Owner.toString()
+    private final String minPrice; // integer strings bounding the numeric fields, inclusive
+    private final String maxPrice;
+    private final String minFloorArea;
+    private final String maxFloorArea;
+    private final String minBedroom;
+    private final String maxBedroom;
+    private final String minBathroom;
+    private final String maxBathroom;
+
+    // Compiled inclusive ranges of the numeric filters; [0, UNBOUNDED] when no filter is set for the field
+    private final long lowestPrice;
+    private final long highestPrice;
+    private final long smallestFloorArea;
+    private final long largestFloorArea;
+    private final long fewestBedrooms;
+    private final long mostBedrooms;
+    private final long fewestBathrooms;
+    private final long mostBathrooms;
+    // True if a numeric filter is not a number, which no property can match
+    private final boolean isUnsatisfiable;
 
     /**
      * Create a filter predicate which checks if a Property matches all filter conditions.
@@ -31,15 +62,41 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
     public PropertyMatchesFilterPredicate(
             String address, String postal, String type, String bedroom, String bathroom,
             String floorarea, String price, String status, String owner) {
-        this.address = norm(address);
-        this.postal = norm(postal);
-        this.type = norm(type);
-        this.bedroom = norm(bedroom);
-        this.bathroom = norm(bathroom);
-        this.floorarea = norm(floorarea == null ? null : floorarea.replace(" ", ""));
-        this.price = norm(price == null ? null : price.trim());
-        this.status = norm(status);
-        this.owner = norm(owner);
+        this(new Builder().withAddress(address).withPostal(postal).withType(type).withBedroom(bedroom)
+                .withBathroom(bathroom).withFloorArea(floorarea).withPrice(price).withStatus(status)
+                .withOwner(owner));
+    }
+
+    private PropertyMatchesFilterPredicate(Builder builder) {
+        this.address = norm(builder.address);
+        this.postal = norm(builder.postal);
+        this.type = norm(builder.type);
+        this.bedroom = norm(builder.bedroom);
+        this.bathroom = norm(builder.bathroom);
+        this.floorarea = normNumber(builder.floorarea);
+        this.price = norm(builder.price);
+        this.status = norm(builder.status);
+        this.owner = norm(builder.owner);
+        this.minPrice = norm(builder.minPrice);
+        this.maxPrice = norm(builder.maxPrice);
+        this.minFloorArea = normNumber(builder.minFloorArea);
+        this.maxFloorArea = normNumber(builder.maxFloorArea);
+        this.minBedroom = norm(builder.minBedroom);
+        this.maxBedroom = norm(builder.maxBedroom);
+        this.minBathroom = norm(builder.minBathroom);
+        this.maxBathroom = norm(builder.maxBathroom);
+
+        this.lowestPrice = lowerBound(minPrice);
+        this.highestPrice = upperBound(price, maxPrice);
+        this.smallestFloorArea = lowerBound(floorarea, minFloorArea);
+        this.largestFloorArea = upperBound(floorarea, maxFloorArea);
+        this.fewestBedrooms = lowerBound(bedroom, minBedroom);
+        this.mostBedrooms = upperBound(bedroom, maxBedroom);
+        this.fewestBathrooms = lowerBound(bathroom, minBathroom);
+        this.mostBathrooms = upperBound(bathroom, maxBathroom);
+        this.isUnsatisfiable = Stream.of(bedroom, bathroom, floorarea, price, minPrice, maxPrice, minFloorArea,
+                maxFloorArea, minBedroom, maxBedroom, minBathroom, maxBathroom)
+                .anyMatch(s -> s != null && parse(s) == NOT_A_NUMBER);
     }
 
     /**
@@ -47,7 +104,117 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
      *
      */
     private static String norm(String s) {
-        return s == null ? null : s.trim().toLowerCase();
+        return s == null ? null : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normNumber(String s) {
+        return norm(s == null ? null : s.replace(" ", ""));
+    }
+
+    /**
+     * Returns the largest of the set bounds, or 0 if none is set.
+     */
+    private static long lowerBound(String... bounds) {
+        long lowest = 0;
+        for (String bound : bounds) {
+            if (bound != null) {
+                lowest = Math.max(lowest, parse(bound));
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * Returns the smallest of the set bounds that are numbers, or {@code UNBOUNDED} if there is none.
+     */
+    private static long upperBound(String... bounds) {
+        long highest = UNBOUNDED;
+        for (String bound : bounds) {
+            long value = bound == null ? NOT_A_NUMBER : parse(bound);
+            if (value != NOT_A_NUMBER) {
+                highest = Math.min(highest, value);
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * Returns the non-negative number in {@code s}, or {@code NOT_A_NUMBER} if {@code s} is not such a number.
+     */
+    private static long parse(String s) {
+        if (s.isEmpty() || s.length() > 18) {
+            return NOT_A_NUMBER;
+        }
+        long value = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isInRange(long value, long lowest, long highest) {
+        return value >= lowest && value <= highest;
+    }
+
+    // Compiled filters, for planning lookups in an index. Text filters are in lower case and null when not set.
+
+    public String getPostal() {
+        return postal;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getLowestPrice() {
+        return lowestPrice;
+    }
+
+    public long getHighestPrice() {
+        return highestPrice;
+    }
+
+    public long getSmallestFloorArea() {
+        return smallestFloorArea;
+    }
+
+    public long getLargestFloorArea() {
+        return largestFloorArea;
+    }
+
+    public long getFewestBedrooms() {
+        return fewestBedrooms;
+    }
+
+    public long getMostBedrooms() {
+        return mostBedrooms;
+    }
+
+    public long getFewestBathrooms() {
+        return fewestBathrooms;
+    }
+
+    public long getMostBathrooms() {
+        return mostBathrooms;
+    }
+
+    /**
+     * Returns true if no property can match this predicate, because one of its numeric filters is not a number.
+     */
+    public boolean isUnsatisfiable() {
+        return isUnsatisfiable;
     }
 
     /**
@@ -55,57 +222,40 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
      */
     @Override
     public boolean test(Property p) {
-        // address substring
-        if (address != null && !p.getPropertyAddress().toString().toLowerCase().contains(address)) {
+        if (isUnsatisfiable) {
             return false;
         }
 
-        // postal equality
-        if (postal != null && !p.getPostal().toString().equals(postal)) {
+        // address substring
+        if (address != null && !p.getSearchableAddress().contains(address)) {
             return false;
         }
 
-        // type equality (case-insensitive)
-        if (type != null && !p.getType().toString().equalsIgnoreCase(type)) {
+        // postal equality
+        if (postal != null && !p.getPostal().value.equals(postal)) {
             return false;
         }
 
-        // bedrooms equals
-        if (bedroom != null) {
-            String bedVal = p.getBedroom().value; // your wrapper stores string
-            if (!bedVal.equals(bedroom)) {
-                return false;
-            }
-        }
-
-        // bathrooms equals
-        if (bathroom != null) {
-            String bathVal = p.getBathroom().value;
-            if (!bathVal.equals(bathroom)) {
-                return false;
-            }
-        }
-
-        // floorarea equals
-        if (floorarea != null && !p.getFloorArea().toString().equals(floorarea)) {
+        // type equality (case-insensitive; stored in lower case)
+        if (type != null && !p.getType().value.equals(type)) {
             return false;
         }
 
-        // price less than price filter
-        if (price != null) {
-            String priceVal = p.getPrice().value; // digits only
-            if (Integer.parseInt(priceVal) > Integer.parseInt(price)) {
-                return false;
-            }
+        // bedrooms, bathrooms, floor area and price within their ranges (an exact filter is a one-value range)
+        if (!isInRange(p.getBedroomCount(), fewestBedrooms, mostBedrooms)
+                || !isInRange(p.getBathroomCount(), fewestBathrooms, mostBathrooms)
+                || !isInRange(p.getFloorAreaValue(), smallestFloorArea, largestFloorArea)
+                || !isInRange(p.getPriceValue(), lowestPrice, highestPrice)) {
+            return false;
         }
 
-        // status equality (case-insensitive)
-        if (status != null && !p.getStatus().toString().equalsIgnoreCase(status)) {
+        // status equality (case-insensitive; stored in lower case)
+        if (status != null && !p.getStatus().value.equals(status)) {
             return false;
         }
 
-        // owner substring (case-insensitive; owner is an id-like string)
-        if (owner != null && !p.getOwner().toString().toLowerCase(Locale.ROOT).equals(owner)) {
+        // owner equality (case-insensitive; owner is an id-like string)
+        if (owner != null && !p.getSearchableOwner().equals(owner)) {
             return false;
         }
 
@@ -129,7 +279,15 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
                 && java.util.Objects.equals(floorarea, o.floorarea)
                 && java.util.Objects.equals(price, o.price)
                 && java.util.Objects.equals(status, o.status)
-                && java.util.Objects.equals(owner, o.owner);
+                && java.util.Objects.equals(owner, o.owner)
+                && java.util.Objects.equals(minPrice, o.minPrice)
+                && java.util.Objects.equals(maxPrice, o.maxPrice)
+                && java.util.Objects.equals(minFloorArea, o.minFloorArea)
+                && java.util.Objects.equals(maxFloorArea, o.maxFloorArea)
+                && java.util.Objects.equals(minBedroom, o.minBedroom)
+                && java.util.Objects.equals(maxBedroom, o.maxBedroom)
+                && java.util.Objects.equals(minBathroom, o.minBathroom)
+                && java.util.Objects.equals(maxBathroom, o.maxBathroom);
     }
 
     /**
@@ -146,6 +304,14 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
         private String price;
         private String status;
         private String owner;
+        private String minPrice;
+        private String maxPrice;
+        private String minFloorArea;
+        private String maxFloorArea;
+        private String minBedroom;
+        private String maxBedroom;
+        private String minBathroom;
+        private String maxBathroom;
 
         /**
          * Sets the address substring filter (case-insensitive).
@@ -198,7 +364,7 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
         }
 
         /**
-         * Sets the price filter.
+         * Sets the price filter, the highest price a matching property may have.
          */
         public Builder withPrice(String s) {
             this.price = s;
@@ -221,13 +387,75 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
             return this;
         }
 
+        /**
+         * Sets the lowest price a matching property may have.
+         */
+        public Builder withMinPrice(String s) {
+            this.minPrice = s;
+            return this;
+        }
+
+        /**
+         * Sets the highest price a matching property may have.
+         */
+        public Builder withMaxPrice(String s) {
+            this.maxPrice = s;
+            return this;
+        }
+
+        /**
+         * Sets the smallest floor area a matching property may have.
+         */
+        public Builder withMinFloorArea(String s) {
+            this.minFloorArea = s;
+            return this;
+        }
+
+        /**
+         * Sets the largest floor area a matching property may have.
+         */
+        public Builder withMaxFloorArea(String s) {
+            this.maxFloorArea = s;
+            return this;
+        }
+
+        /**
+         * Sets the fewest number of bedrooms a matching property may have.
+         */
+        public Builder withMinBedroom(String s) {
+            this.minBedroom = s;
+            return this;
+        }
+
+        /**
+         * Sets the most number of bedrooms a matching property may have.
+         */
+        public Builder withMaxBedroom(String s) {
+            this.maxBedroom = s;
+            return this;
+        }
+
+        /**
+         * Sets the fewest number of bathrooms a matching property may have.
+         */
+        public Builder withMinBathroom(String s) {
+            this.minBathroom = s;
+            return this;
+        }
+
+        /**
+         * Sets the most number of bathrooms a matching property may have.
+         */
+        public Builder withMaxBathroom(String s) {
+            this.maxBathroom = s;
+            return this;
+        }
+
         /**
          * Builds a predicate with the current filters.
          */
         public PropertyMatchesFilterPredicate build() {
-            return new PropertyMatchesFilterPredicate(
-                    address, postal, type, bedroom, bathroom, floorarea, price, status, owner
-            );
+            return new PropertyMatchesFilterPredicate(this);
         }
     }
 }
@@ -0,0 +1,414 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.contact.BudgetMax;
+import seedu.address.model.contact.BudgetMin;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactAddress;
+import seedu.address.model.contact.ContactStatus;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Notes;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.property.Bathroom;
+import seedu.address.model.property.Bedroom;
+import seedu.address.model.property.FloorArea;
+import seedu.address.model.property.Owner;
+import seedu.address.model.property.Postal;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyAddress;
+import seedu.address.model.property.Status;
+import seedu.address.model.property.Type;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidSet;
+
+/**
+ * Generates any number of valid contacts and properties, for load testing and benchmarks.
+ * <p>
+ * Every entry is derived from the seed and its own uuid alone, so the same seed and counts always give the same
+ * entries, and each entry can be generated on its own, in any order, without keeping the others in memory.
+ * {@link #contacts()} and {@link #properties()} therefore stream the books one entry at a time.
+ * </p>
+ * <p>
+ * Each property is owned and sold by one contact, and has on average about {@code buyersPerProperty} buyers. The
+ * links are placed by invertible mappings between property and contact positions, so a contact can find the
+ * properties it is linked to without a scan, and the links on both sides always agree.
+ * </p>
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final double DEFAULT_BUYERS_PER_PROPERTY = 1.5;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Fiona",
+        "Wei Ming", "Siew Ling", "Arjun", "Priya", "Nurul", "Hafiz", "Grace", "Marcus", "Jia Hui", "Kumar", "Mei"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Yeoh", "Yu", "Li", "Ibrahim", "Balakrishnan", "Rahman", "Pillai", "Oliveiro"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Street", "Clementi Avenue",
+        "Geylang East Avenue", "Hougang Street", "Jurong West Street", "Serangoon Gardens Way", "Tampines Street",
+        "Toa Payoh Lorong", "Woodlands Drive", "Yishun Ring Road", "Bukit Timah Road", "Holland Road"};
+    private static final String[] NOTES = {"", "", "Prefers email contact", "VIP client", "Follow up in July",
+        "Prefers phone calls", "Looking for a unit near an MRT station", "First-time buyer"};
+
+    // property types, with their share of listings and their median price
+    private static final String[] TYPES = {"hdb", "condo", "landed", "apartment", "office", "others"};
+    private static final double[] TYPE_SHARES = {0.60, 0.22, 0.08, 0.05, 0.03, 0.02};
+    private static final long[] MEDIAN_PRICES = {550_000, 1_500_000, 4_000_000, 1_100_000, 2_500_000, 800_000};
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int CONTACT_STREAM = 1;
+    private static final int PROPERTY_STREAM = 2;
+    private static final int BUYER_STREAM = 3;
+
+    private final long seed;
+    private final int contactCount;
+    private final int propertyCount;
+
+    // buyer slot k of a property is filled with probability buyerChance; slot 0 holds the seller
+    private final int buyerSlots;
+    private final double buyerChance;
+
+    // property position p is linked through slot k to contact position (multipliers[k] * p + offsets[k]) % contactCount
+    private final long[] multipliers;
+    private final long[] inverseMultipliers;
+    private final long[] offsets;
+
+    /**
+     * Creates a generator of {@code contactCount} contacts and {@code propertyCount} properties.
+     *
+     * @param buyersPerProperty the average number of buyers linked to each property.
+     * @throws IllegalArgumentException if the counts are not valid numbers of uuids, if there are properties but no
+     *     contacts to own them, or if there are not enough contacts for the buyers of a property to be distinct.
+     */
+    public SyntheticDataGenerator(long seed, int contactCount, int propertyCount, double buyersPerProperty) {
+        checkArgument(contactCount >= 0 && contactCount <= Uuid.MAX_VALUE, "Invalid number of contacts");
+        checkArgument(propertyCount >= 0 && propertyCount <= Uuid.MAX_VALUE, "Invalid number of properties");
+        checkArgument(propertyCount == 0 || contactCount > 0, "Properties need at least one contact to own them");
+        checkArgument(buyersPerProperty >= 0, "Number of buyers per property cannot be negative");
+        this.seed = seed;
+        this.contactCount = contactCount;
+        this.propertyCount = propertyCount;
+        this.buyerSlots = (int) Math.ceil(buyersPerProperty);
+        this.buyerChance = buyerSlots == 0 ? 0 : buyersPerProperty / buyerSlots;
+        checkArgument(propertyCount == 0 || buyerSlots < contactCount,
+                "Not enough contacts for " + buyersPerProperty + " buyers per property");
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long modulus = Math.max(contactCount, 1);
+        this.multipliers = new long[buyerSlots + 1];
+        this.inverseMultipliers = new long[buyerSlots + 1];
+        this.offsets = new long[buyerSlots + 1];
+        for (int slot = 0; slot <= buyerSlots; slot++) {
+            long candidate = 1 + random.nextLong(modulus);
+            while (gcd(candidate, modulus) != 1) {
+                candidate++;
+            }
+            multipliers[slot] = candidate % modulus;
+            inverseMultipliers[slot] = modInverse(candidate, modulus);
+            offsets[slot] = random.nextLong(modulus);
+        }
+    }
+
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    public int getPropertyCount() {
+        return propertyCount;
+    }
+
+    /**
+     * Returns the contact with uuid {@code id}, which must be between 1 and the number of contacts.
+     */
+    public Contact getContact(int id) {
+        checkArgument(id >= 1 && id <= contactCount, "No such contact: " + id);
+        SplittableRandom random = randomFor(CONTACT_STREAM, id);
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        long budgetMin = roundToThousands(logNormal(random, 900_000, 0.5));
+        long budgetMax = roundToThousands(budgetMin * (1.2 + random.nextDouble() * 0.8));
+
+        int position = id - 1;
+        UuidSet buyingPropertyIds = UuidSet.of();
+        for (int slot = 1; slot <= buyerSlots; slot++) {
+            for (long property = firstPropertyLinkedTo(position, slot); property < propertyCount;
+                    property += contactCount) {
+                if (hasBuyerInSlot((int) property, slot)) {
+                    buyingPropertyIds = buyingPropertyIds.with(new Uuid((int) property + 1, PROPERTY));
+                }
+            }
+        }
+        UuidSet sellingPropertyIds = UuidSet.of();
+        for (long property = firstPropertyLinkedTo(position, 0); property < propertyCount;
+                property += contactCount) {
+            sellingPropertyIds = sellingPropertyIds.with(new Uuid((int) property + 1, PROPERTY));
+        }
+
+        return new Contact(new Uuid(id, CONTACT), new Name(firstName + " " + lastName),
+                new Phone(String.valueOf(80_000_000 + (position * 7_919L + offsets[0]) % 10_000_000)),
+                new Email(toEmailPart(firstName) + "." + toEmailPart(lastName) + id + "@example.com"),
+                new ContactAddress(getHdbAddress(random)),
+                new BudgetMin(String.valueOf(budgetMin)), new BudgetMax(String.valueOf(budgetMax)),
+                new Notes(pick(random, NOTES)), new ContactStatus(random.nextInt(4) == 0 ? "Inactive" : "Active"),
+                buyingPropertyIds, sellingPropertyIds);
+    }
+
+    /**
+     * Returns the property with uuid {@code id}, which must be between 1 and the number of properties.
+     */
+    public Property getProperty(int id) {
+        checkArgument(id >= 1 && id <= propertyCount, "No such property: " + id);
+        SplittableRandom random = randomFor(PROPERTY_STREAM, id);
+        int type = pickType(random);
+        int bedrooms = getBedrooms(random, type);
+        int bathrooms = TYPES[type].equals("office") ? 1 + random.nextInt(2) : 1 + random.nextInt(Math.max(1,
+                bedrooms));
+        int floorArea = Math.max(50, (int) (getFloorAreaPerRoom(type) * Math.max(1, bedrooms)
+                * (0.8 + random.nextDouble() * 0.4)));
+        long price = Math.max(1000, roundToThousands(logNormal(random, MEDIAN_PRICES[type], 0.35)));
+        String postal = String.format("%02d%04d", 1 + random.nextInt(82), random.nextInt(10_000));
+
+        int position = id - 1;
+        UuidSet buyingContactIds = UuidSet.of();
+        for (int slot = 1; slot <= buyerSlots; slot++) {
+            if (hasBuyerInSlot(position, slot)) {
+                buyingContactIds = buyingContactIds.with(new Uuid(contactLinkedTo(position, slot) + 1, CONTACT));
+            }
+        }
+        int sellerId = contactLinkedTo(position, 0) + 1;
+
+        return new Property(new Uuid(id, PROPERTY), new PropertyAddress(getPropertyAddress(random, type, id)),
+                new Bathroom(String.valueOf(bathrooms)), new Bedroom(String.valueOf(bedrooms)),
+                new FloorArea(String.valueOf(floorArea)), new Postal(postal), new Price(String.valueOf(price)),
+                new Status(random.nextInt(100) < 85 ? "available" : "unavailable"), new Type(TYPES[type]),
+                new Owner(String.valueOf(sellerId)), buyingContactIds, UuidSet.of().with(new Uuid(sellerId, CONTACT)));
+    }
+
+    /**
+     * Returns the contacts in uuid order. Each contact is generated as it is iterated over.
+     */
+    public Iterable<Contact> contacts() {
+        return () -> new EntryIterator<>(contactCount, this::getContact);
+    }
+
+    /**
+     * Returns the properties in uuid order. Each property is generated as it is iterated over.
+     */
+    public Iterable<Property> properties() {
+        return () -> new EntryIterator<>(propertyCount, this::getProperty);
+    }
+
+    /**
+     * Returns an address book holding all the contacts.
+     */
+    public AddressBook getAddressBook() {
+        List<Contact> contacts = new ArrayList<>(contactCount);
+        contacts().forEach(contacts::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+        addressBook.setNextUuid(contactCount + 1);
+        return addressBook;
+    }
+
+    /**
+     * Returns a property book holding all the properties.
+     */
+    public PropertyBook getPropertyBook() {
+        List<Property> properties = new ArrayList<>(propertyCount);
+        properties().forEach(properties::add);
+        PropertyBook propertyBook = new PropertyBook();
+        propertyBook.setProperties(properties);
+        propertyBook.setNextUuid(propertyCount + 1);
+        return propertyBook;
+    }
+
+    private int contactLinkedTo(int property, int slot) {
+        return (int) ((multipliers[slot] * property + offsets[slot]) % contactCount);
+    }
+
+    /**
+     * Returns the smallest property position linked to {@code contact} through {@code slot}. The others follow at
+     * intervals of the number of contacts.
+     */
+    private long firstPropertyLinkedTo(int contact, int slot) {
+        return Math.floorMod(inverseMultipliers[slot] * Math.floorMod(contact - offsets[slot], (long) contactCount),
+                (long) contactCount);
+    }
+
+    /**
+     * Returns true if buyer slot {@code slot} of {@code property} is filled. A slot that would repeat the seller or
+     * an earlier buyer is left empty.
+     */
+    private boolean hasBuyerInSlot(int property, int slot) {
+        long hash = mix(seed + BUYER_STREAM * GOLDEN_GAMMA + mix(property * (long) (buyerSlots + 1) + slot));
+        if ((hash >>> 11) * 0x1.0p-53 >= buyerChance) {
+            return false;
+        }
+        int contact = contactLinkedTo(property, slot);
+        for (int earlierSlot = 0; earlierSlot < slot; earlierSlot++) {
+            if (contactLinkedTo(property, earlierSlot) == contact) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private SplittableRandom randomFor(int stream, int id) {
+        return new SplittableRandom(mix(seed + stream * GOLDEN_GAMMA + mix(id)));
+    }
+
+    /**
+     * Scrambles the bits of {@code z}, as the finalizer of SplitMix64 does.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns the inverse of {@code a} modulo {@code modulus}, where they have no common factor.
+     */
+    private static long modInverse(long a, long modulus) {
+        long oldR = a % modulus;
+        long r = modulus;
+        long oldS = 1;
+        long s = 0;
+        while (r != 0) {
+            long quotient = oldR / r;
+            long nextR = oldR - quotient * r;
+            oldR = r;
+            r = nextR;
+            long nextS = oldS - quotient * s;
+            oldS = s;
+            s = nextS;
+        }
+        return Math.floorMod(oldS, modulus);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int pickType(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (int type = 0; type < TYPE_SHARES.length - 1; type++) {
+            draw -= TYPE_SHARES[type];
+            if (draw < 0) {
+                return type;
+            }
+        }
+        return TYPE_SHARES.length - 1;
+    }
+
+    private static int getBedrooms(SplittableRandom random, int type) {
+        switch (TYPES[type]) {
+        case "hdb":
+            return 2 + random.nextInt(4);
+        case "condo":
+            return 1 + random.nextInt(4);
+        case "landed":
+            return 3 + random.nextInt(4);
+        case "apartment":
+            return 1 + random.nextInt(3);
+        case "office":
+            return 0;
+        default:
+            return random.nextInt(3);
+        }
+    }
+
+    private static int getFloorAreaPerRoom(int type) {
+        switch (TYPES[type]) {
+        case "landed":
+            return 70;
+        case "office":
+            return 150;
+        default:
+            return 30;
+        }
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        // sum of uniforms, as an approximately normal draw that needs no state between calls
+        double normal = 0;
+        for (int i = 0; i < 12; i++) {
+            normal += random.nextDouble();
+        }
+        return median * Math.exp(sigma * (normal - 6));
+    }
+
+    private static long roundToThousands(double value) {
+        return Math.round(value / 1000) * 1000;
+    }
+
+    private static String toEmailPart(String name) {
+        return name.toLowerCase().replace(" ", "");
+    }
+
+    private static String getHdbAddress(SplittableRandom random) {
+        return String.format("Blk %d %s %d, #%02d-%02d", 1 + random.nextInt(999), pick(random, STREETS),
+                1 + random.nextInt(90), 2 + random.nextInt(30), 1 + random.nextInt(80));
+    }
+
+    /**
+     * Returns an address for the property with uuid {@code id}. The unit number is derived from the uuid, so that no
+     * two properties have the same address.
+     */
+    private static String getPropertyAddress(SplittableRandom random, int type, int id) {
+        String street = pick(random, STREETS) + " " + (1 + random.nextInt(90));
+        switch (TYPES[type]) {
+        case "hdb":
+            return String.format("Blk %d %s, #%02d-%d", 1 + random.nextInt(999), street, 2 + random.nextInt(30), id);
+        case "landed":
+            return String.format("%d %s, Lot %d", 1 + random.nextInt(300), street, id);
+        default:
+            return String.format("%d %s, #%02d-%d", 1 + random.nextInt(300), street, 2 + random.nextInt(40), id);
+        }
+    }
+
+    /**
+     * Generates the entries with uuids 1 to {@code count} as they are iterated over.
+     */
+    private static class EntryIterator<E> implements Iterator<E> {
+        private final int count;
+        private final IntFunction<E> generator;
+        private int nextId = 1;
+
+        EntryIterator(int count, IntFunction<E> generator) {
+            this.count = count;
+            this.generator = requireNonNull(generator);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextId <= count;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return generator.apply(nextId++);
+        }
+    }
+}
@@ -14,6 +14,8 @@ public class Uuid {
 
     public static final String MESSAGE_CONSTRAINTS = "UUID should be a positive integer. (maximum of 2000000)";
 
+    public static final int MAX_VALUE = 2_000_000;
+
     private final int value;
     private final StoredItem itemType;
 
@@ -55,7 +57,7 @@ public class Uuid {
     public static boolean isValidUuid(String test) {
         try { // maximum UUID is 2 million to ensure integer won't overflow
             float value = Float.parseFloat(test);
-            return value > 0 && value <= 2_000_000;
+            return value > 0 && value <= MAX_VALUE;
         } catch (NumberFormatException e) {
             return false;
         }
@@ -68,6 +70,10 @@ public class Uuid {
         return value;
     }
 
+    public StoredItem getItemType() {
+        return itemType;
+    }
+
     public static String getGuiSetDisplayAsString(Set<Uuid> uuids) {
         return uuids.stream().map(id -> id.getValue() + "").sorted().collect(Collectors.joining(", "));
     }
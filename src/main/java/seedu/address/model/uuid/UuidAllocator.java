@@ -0,0 +1,72 @@
+package seedu.address.model.uuid;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+
+/**
+ * Hands out UUID values for a single book.
+ * <p>
+ * The values in use are tracked in a {@link BitSet} (at most {@link Uuid#MAX_VALUE} bits), so marking,
+ * releasing and allocating a value never has to look at the stored items. Allocation resumes from the
+ * high-water mark {@code nextUuid} rather than from 1, so values released below it are not handed out again.
+ * </p>
+ */
+public class UuidAllocator {
+
+    private final BitSet usedIds = new BitSet();
+    private int nextUuid = 1;
+
+    /**
+     * Records {@code id} as being in use.
+     */
+    public void markUsed(int id) {
+        checkArgument(id > 0 && id <= Uuid.MAX_VALUE, Uuid.MESSAGE_CONSTRAINTS);
+        usedIds.set(id);
+    }
+
+    /**
+     * Records {@code id} as no longer in use.
+     * If {@code id} is not in use, no action is taken.
+     */
+    public void release(int id) {
+        if (id > 0) {
+            usedIds.clear(id);
+        }
+    }
+
+    /**
+     * Returns true if {@code id} is currently in use.
+     */
+    public boolean isUsed(int id) {
+        return id > 0 && usedIds.get(id);
+    }
+
+    /**
+     * Releases every value, keeping the high-water mark.
+     */
+    public void clear() {
+        usedIds.clear();
+    }
+
+    /**
+     * Advances the high-water mark to the first unused value at or above it and returns that value.
+     * The value is not marked as used until the item carrying it is added.
+     */
+    public int next() {
+        nextUuid = usedIds.nextClearBit(nextUuid);
+        return nextUuid;
+    }
+
+    public int getNextUuid() {
+        return nextUuid;
+    }
+
+    /**
+     * Moves the high-water mark to {@code nextUuid}, e.g. when restoring it from storage.
+     * Values below 1 are treated as 1.
+     */
+    public void setNextUuid(int nextUuid) {
+        this.nextUuid = Math.max(nextUuid, 1);
+    }
+}
@@ -0,0 +1,465 @@
+package seedu.address.model.uuid;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import seedu.address.model.uuid.Uuid.StoredItem;
+
+/**
+ * An immutable set of {@code Uuid}s, held unboxed, that shares structure with the sets it is derived from.
+ * <p>
+ * Each uuid is packed into a single int, and the ints are kept in ascending order in the leaves of a B+ tree whose
+ * leaves hold at most {@value #MAX_NODE_SIZE} ints each, so a set takes about 4 bytes per uuid. {@link #with} and
+ * {@link #without} return a new set that copies only the path from the root to the affected leaf, and shares every
+ * other node with this set, so adding or removing one uuid allocates O(log n) instead of copying the whole set.
+ * </p>
+ * <p>
+ * The set iterates in ascending order of uuid value. Any attempt to modify it in place throws
+ * {@code UnsupportedOperationException}.
+ * </p>
+ */
+public final class UuidSet extends AbstractSet<Uuid> {
+
+    private static final int MAX_NODE_SIZE = 32;
+    private static final StoredItem[] ITEM_TYPES = StoredItem.values();
+    private static final UuidSet EMPTY = new UuidSet(null);
+
+    // null for the empty set
+    private final Node root;
+
+    private UuidSet(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    public static UuidSet of() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of the given uuids. If {@code uuids} is already a {@code UuidSet}, it is returned as is.
+     */
+    public static UuidSet copyOf(Collection<? extends Uuid> uuids) {
+        requireNonNull(uuids);
+        if (uuids instanceof UuidSet) {
+            return (UuidSet) uuids;
+        }
+        int[] keys = new int[uuids.size()];
+        int count = 0;
+        for (Uuid uuid : uuids) {
+            keys[count++] = toKey(uuid);
+        }
+        Arrays.sort(keys, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return new UuidSet(build(keys, distinct));
+    }
+
+    /**
+     * Returns a set of the uuids in this set and {@code uuid}, or this set if it already contains {@code uuid}.
+     */
+    public UuidSet with(Uuid uuid) {
+        int key = toKey(uuid);
+        if (root == null) {
+            return new UuidSet(Node.leaf(new int[] {key}));
+        }
+        Node[] inserted = root.insert(key);
+        if (inserted == null) {
+            return this;
+        }
+        return new UuidSet(inserted.length == 1 ? inserted[0] : Node.branch(inserted));
+    }
+
+    /**
+     * Returns a set of the uuids in this set and in {@code uuids}.
+     */
+    public UuidSet withAll(Collection<? extends Uuid> uuids) {
+        UuidSet result = this;
+        for (Uuid uuid : uuids) {
+            result = result.with(uuid);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a set of the uuids in this set other than {@code uuid}, or this set if it does not contain
+     * {@code uuid}.
+     */
+    public UuidSet without(Uuid uuid) {
+        if (root == null) {
+            return this;
+        }
+        Node removed = root.remove(toKey(uuid));
+        if (removed == root) {
+            return this;
+        }
+        if (removed == null) {
+            return EMPTY;
+        }
+        // a branch left with a single child is replaced by that child
+        while (removed.children != null && removed.children.length == 1) {
+            removed = removed.children[0];
+        }
+        return new UuidSet(removed);
+    }
+
+    /**
+     * Returns a set of the uuids in this set that are not in {@code uuids}.
+     */
+    public UuidSet withoutAll(Collection<? extends Uuid> uuids) {
+        UuidSet result = this;
+        for (Uuid uuid : uuids) {
+            result = result.without(uuid);
+        }
+        return result;
+    }
+
+    /**
+     * Passes the value of each uuid in this set, in ascending order, to {@code action}, without creating a
+     * {@code Uuid} for each of them.
+     */
+    public void forEachValue(IntConsumer action) {
+        if (root != null) {
+            root.forEachKey(key -> action.accept(key >>> 1));
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Uuid && root != null && root.contains(toKey((Uuid) o));
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    @Override
+    public Iterator<Uuid> iterator() {
+        return new KeyIterator(root);
+    }
+
+    @Override
+    public boolean add(Uuid uuid) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Uuid> uuids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> uuids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> uuids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Uuid> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UuidSet)) {
+            return other instanceof Set && super.equals(other);
+        }
+        UuidSet otherSet = (UuidSet) other;
+        if (size() != otherSet.size()) {
+            return false;
+        }
+        KeyIterator keys = new KeyIterator(root);
+        KeyIterator otherKeys = new KeyIterator(otherSet.root);
+        while (keys.hasNext()) {
+            if (keys.nextKey() != otherKeys.nextKey()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // same as AbstractSet#hashCode, as the hash code of a Uuid is its value
+        int[] hash = {0};
+        forEachValue(value -> hash[0] += value);
+        return hash[0];
+    }
+
+    /**
+     * Packs a uuid into an int that orders by value. The lowest bit holds the item type.
+     */
+    private static int toKey(Uuid uuid) {
+        requireNonNull(uuid);
+        return uuid.getValue() << 1 | uuid.getItemType().ordinal();
+    }
+
+    private static Uuid toUuid(int key) {
+        return new Uuid(key >>> 1, ITEM_TYPES[key & 1]);
+    }
+
+    /**
+     * Builds a tree of full nodes from the first {@code count} of {@code keys}, which are sorted and distinct.
+     */
+    private static Node build(int[] keys, int count) {
+        if (count == 0) {
+            return null;
+        }
+        Node[] level = new Node[(count + MAX_NODE_SIZE - 1) / MAX_NODE_SIZE];
+        for (int i = 0; i < level.length; i++) {
+            int from = i * MAX_NODE_SIZE;
+            level[i] = Node.leaf(Arrays.copyOfRange(keys, from, Math.min(from + MAX_NODE_SIZE, count)));
+        }
+        while (level.length > 1) {
+            Node[] parents = new Node[(level.length + MAX_NODE_SIZE - 1) / MAX_NODE_SIZE];
+            for (int i = 0; i < parents.length; i++) {
+                int from = i * MAX_NODE_SIZE;
+                parents[i] = Node.branch(Arrays.copyOfRange(level, from, Math.min(from + MAX_NODE_SIZE,
+                        level.length)));
+            }
+            level = parents;
+        }
+        return level[0];
+    }
+
+    /**
+     * A node of the tree, never modified once built. A leaf holds sorted keys. A branch holds its children, and,
+     * for each child, the smallest key under it.
+     */
+    private static final class Node {
+        private final int[] keys;
+        private final Node[] children;
+        private final int size;
+
+        private Node(int[] keys, Node[] children, int size) {
+            this.keys = keys;
+            this.children = children;
+            this.size = size;
+        }
+
+        static Node leaf(int[] keys) {
+            return new Node(keys, null, keys.length);
+        }
+
+        static Node branch(Node[] children) {
+            int[] keys = new int[children.length];
+            int size = 0;
+            for (int i = 0; i < children.length; i++) {
+                keys[i] = children[i].keys[0];
+                size += children[i].size;
+            }
+            return new Node(keys, children, size);
+        }
+
+        boolean contains(int key) {
+            Node node = this;
+            while (node.children != null) {
+                node = node.children[node.childIndex(key)];
+            }
+            return Arrays.binarySearch(node.keys, key) >= 0;
+        }
+
+        /**
+         * Returns the index of the child under which {@code key} is, or would be, held.
+         */
+        private int childIndex(int key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? position : Math.max(0, -position - 2);
+        }
+
+        /**
+         * Returns this node with {@code key} added, as one node, or as two if it had to be split, or null if
+         * {@code key} is already present.
+         */
+        Node[] insert(int key) {
+            if (children == null) {
+                int position = Arrays.binarySearch(keys, key);
+                if (position >= 0) {
+                    return null;
+                }
+                position = -position - 1;
+                int[] newKeys = new int[keys.length + 1];
+                System.arraycopy(keys, 0, newKeys, 0, position);
+                newKeys[position] = key;
+                System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+                if (newKeys.length <= MAX_NODE_SIZE) {
+                    return new Node[] {leaf(newKeys)};
+                }
+                int half = newKeys.length / 2;
+                return new Node[] {leaf(Arrays.copyOfRange(newKeys, 0, half)),
+                    leaf(Arrays.copyOfRange(newKeys, half, newKeys.length))};
+            }
+
+            int index = childIndex(key);
+            Node[] inserted = children[index].insert(key);
+            if (inserted == null) {
+                return null;
+            }
+            Node[] newChildren = new Node[children.length + inserted.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(inserted, 0, newChildren, index, inserted.length);
+            System.arraycopy(children, index + 1, newChildren, index + inserted.length, children.length - index - 1);
+            if (newChildren.length <= MAX_NODE_SIZE) {
+                return new Node[] {branch(newChildren)};
+            }
+            int half = newChildren.length / 2;
+            return new Node[] {branch(Arrays.copyOfRange(newChildren, 0, half)),
+                branch(Arrays.copyOfRange(newChildren, half, newChildren.length))};
+        }
+
+        /**
+         * Returns this node with {@code key} removed, this node itself if {@code key} is not present, or null if
+         * no keys are left. Nodes are not merged, so a node may be left with fewer keys than a full one.
+         */
+        Node remove(int key) {
+            if (children == null) {
+                int position = Arrays.binarySearch(keys, key);
+                if (position < 0) {
+                    return this;
+                }
+                if (keys.length == 1) {
+                    return null;
+                }
+                int[] newKeys = new int[keys.length - 1];
+                System.arraycopy(keys, 0, newKeys, 0, position);
+                System.arraycopy(keys, position + 1, newKeys, position, newKeys.length - position);
+                return leaf(newKeys);
+            }
+
+            int index = childIndex(key);
+            Node removed = children[index].remove(key);
+            if (removed == children[index]) {
+                return this;
+            }
+            Node[] newChildren;
+            if (removed != null) {
+                newChildren = children.clone();
+                newChildren[index] = removed;
+            } else if (children.length == 1) {
+                return null;
+            } else {
+                newChildren = new Node[children.length - 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            }
+            return branch(newChildren);
+        }
+
+        void forEachKey(IntConsumer action) {
+            if (children == null) {
+                for (int key : keys) {
+                    action.accept(key);
+                }
+                return;
+            }
+            for (Node child : children) {
+                child.forEachKey(action);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the keys of a tree in ascending order.
+     */
+    private static final class KeyIterator implements Iterator<Uuid> {
+        // the branches on the path to the current leaf, and the index of the child taken at each
+        private final Node[] path;
+        private final int[] childIndices;
+        private int depth;
+        private Node leaf;
+        private int position;
+
+        KeyIterator(Node root) {
+            int height = 0;
+            for (Node node = root; node != null && node.children != null; node = node.children[0]) {
+                height++;
+            }
+            path = new Node[height];
+            childIndices = new int[height];
+            if (root != null) {
+                descend(root);
+            }
+        }
+
+        /**
+         * Follows the first child of each node from {@code node} down to a leaf.
+         */
+        private void descend(Node node) {
+            while (node.children != null) {
+                path[depth] = node;
+                childIndices[depth] = 0;
+                depth++;
+                node = node.children[0];
+            }
+            leaf = node;
+            position = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && position < leaf.keys.length;
+        }
+
+        @Override
+        public Uuid next() {
+            return toUuid(nextKey());
+        }
+
+        int nextKey() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int key = leaf.keys[position++];
+            if (position == leaf.keys.length) {
+                advanceLeaf();
+            }
+            return key;
+        }
+
+        private void advanceLeaf() {
+            while (depth > 0) {
+                int level = depth - 1;
+                if (childIndices[level] + 1 < path[level].children.length) {
+                    childIndices[level]++;
+                    depth = level + 1;
+                    descend(path[level].children[childIndices[level]]);
+                    return;
+                }
+                depth--;
+            }
+            leaf = null;
+        }
+    }
+}
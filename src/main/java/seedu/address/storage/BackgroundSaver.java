@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPropertyBook;
+
+/**
+ * Writes the address book and property book to {@code Storage} on a background thread.
+ * <p>
+ * Snapshots handed to {@link #submit} are written at most {@code delayMillis} later. Snapshots submitted
+ * before the pending write starts replace the earlier ones, so a burst of commands results in a single write
+ * of each book. A snapshot that fails to save stays pending until a later write succeeds, so {@link #flush}
+ * never reports success while unsaved changes remain.
+ * </p>
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyPropertyBook pendingPropertyBook;
+    private boolean isWriteScheduled;
+    private Consumer<IOException> failureHandler = exception -> {};
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes to {@code storage} at most {@code delayMillis} after a
+     * snapshot is submitted.
+     */
+    public BackgroundSaver(Storage storage, long delayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, whenever a scheduled write fails.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues the given snapshots to be written. A {@code null} snapshot means that book is unchanged.
+     * The snapshots must not be modified after they are submitted.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook, ReadOnlyPropertyBook propertyBook) {
+        if (addressBook != null) {
+            pendingAddressBook = addressBook;
+        }
+        if (propertyBook != null) {
+            pendingPropertyBook = propertyBook;
+        }
+        if (!isWriteScheduled && hasPendingChanges()) {
+            isWriteScheduled = true;
+            executor.schedule(this::writeScheduled, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true if there are submitted snapshots that have not been written successfully yet.
+     */
+    public synchronized boolean hasPendingChanges() {
+        return pendingAddressBook != null || pendingPropertyBook != null;
+    }
+
+    /**
+     * Writes all pending snapshots and waits for the write to finish.
+     *
+     * @throws IOException if the pending snapshots could not be saved.
+     */
+    public void flush() throws IOException {
+        Future<IOException> result = executor.submit(this::writePending);
+        IOException failure;
+        try {
+            failure = result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeScheduled() {
+        synchronized (this) {
+            isWriteScheduled = false;
+        }
+        IOException failure = writePending();
+        if (failure != null) {
+            Consumer<IOException> handler;
+            synchronized (this) {
+                handler = failureHandler;
+            }
+            handler.accept(failure);
+        }
+    }
+
+    /**
+     * Writes the pending snapshots. Always runs on the executor thread.
+     *
+     * @return the failure, or {@code null} if everything pending was saved.
+     */
+    private IOException writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyPropertyBook propertyBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            propertyBook = pendingPropertyBook;
+            pendingAddressBook = null;
+            pendingPropertyBook = null;
+        }
+
+        try {
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+                addressBook = null;
+            }
+            if (propertyBook != null) {
+                storage.savePropertyBook(propertyBook);
+            }
+            return null;
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background " + StringUtil.getDetails(e));
+            restoreUnsaved(addressBook, propertyBook);
+            return e;
+        }
+    }
+
+    /**
+     * Puts snapshots that failed to save back in the queue, unless newer ones were submitted meanwhile.
+     */
+    private synchronized void restoreUnsaved(ReadOnlyAddressBook addressBook, ReadOnlyPropertyBook propertyBook) {
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+        if (pendingPropertyBook == null) {
+            pendingPropertyBook = propertyBook;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EntryChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Saving a book that was read or saved through the same object appends only the contacts that changed.
+ *
+ * @see JournalBookStorage
+ */
+public class JournalAddressBookStorage extends JournalBookStorage<ReadOnlyAddressBook, Contact>
+        implements AddressBookStorage {
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it holds at least {@code minRecordsBeforeCompaction}
+     * records and at least as many records as the book has contacts.
+     */
+    public JournalAddressBookStorage(Path filePath, int minRecordsBeforeCompaction) {
+        this(filePath, new JsonAddressBookStorage(filePath), minRecordsBeforeCompaction);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, whose snapshots are written the way
+     * {@link JsonAddressBookStorage#JsonAddressBookStorage(Path, boolean, int)} writes them.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isPrettyPrinted, int generationsKept) {
+        this(filePath, new JsonAddressBookStorage(filePath, isPrettyPrinted, generationsKept),
+                DEFAULT_MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    private JournalAddressBookStorage(Path filePath, JsonAddressBookStorage snapshotStorage,
+            int minRecordsBeforeCompaction) {
+        super(minRecordsBeforeCompaction);
+        this.filePath = filePath;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return read(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        save(addressBook, filePath);
+    }
+
+    @Override
+    ReadOnlyAddressBook readSnapshotFile(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readAddressBookFile(filePath);
+    }
+
+    @Override
+    int getGenerationsKept() {
+        return snapshotStorage.getGenerationsKept();
+    }
+
+    @Override
+    void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    List<Contact> getEntries(ReadOnlyAddressBook addressBook) {
+        return addressBook.getContactList();
+    }
+
+    @Override
+    int getNextUuid(ReadOnlyAddressBook addressBook) {
+        return addressBook.getNextUuid();
+    }
+
+    @Override
+    EntryChange<Contact> getLatestChange(ReadOnlyAddressBook addressBook) {
+        return addressBook.getLatestChange();
+    }
+
+    @Override
+    int getUuidValue(Contact contact) {
+        return contact.getUuid().getValue();
+    }
+
+    @Override
+    JsonJournalRecord toPutRecord(Contact contact) {
+        return JsonJournalRecord.put(new JsonAdaptedContact(contact));
+    }
+
+    @Override
+    Contact fromPutRecord(JsonJournalRecord record) throws IllegalValueException {
+        if (record.getContact() == null) {
+            throw new IllegalValueException("Journal record is missing its contact");
+        }
+        return record.getContact().toModelType();
+    }
+
+    @Override
+    ReadOnlyAddressBook toBook(Collection<Contact> contacts, int nextUuid) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Contact contact : contacts) {
+            if (addressBook.hasContact(contact)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
+            }
+            addressBook.addContact(contact);
+        }
+        addressBook.setNextUuid(nextUuid);
+        return addressBook;
+    }
+}
@@ -0,0 +1,407 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EntryChange;
+
+/**
+ * Stores a book as a JSON snapshot plus an append-only journal of the changes made since that snapshot.
+ * <p>
+ * The snapshot is the same file the {@code Json*Storage} classes write. The journal lives next to it, in a file
+ * with the {@link #JOURNAL_SUFFIX} suffix, and holds one {@link JsonJournalRecord} per line. Saving appends only the
+ * entries that changed since the state last read or written through this object, so a command that edits one entry
+ * writes one line instead of rewriting the whole file. The changed entries are found by following the book's chain
+ * of {@link EntryChange}s from the one that was latest when the state was written; only when that is not possible,
+ * such as after the state was read or the book's contents were replaced, is every entry compared. Once the journal
+ * holds as many records as the book has entries (and at least {@code minRecordsBeforeCompaction}), the next save
+ * writes a fresh snapshot and starts an empty journal.
+ * </p><p>
+ * The first line of every journal holds the checksum of the snapshot it applies to. A journal left behind by a
+ * compaction that was interrupted after the new snapshot was written no longer matches and is ignored. A torn
+ * final line, left by a write that was interrupted midway, is skipped and the next save compacts.
+ * </p>
+ *
+ * @param <B> type of the book.
+ * @param <E> type of the entries in the book.
+ */
+abstract class JournalBookStorage<B, E> {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final int DEFAULT_MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    static final String OP_BASE = "base";
+    static final String MESSAGE_INVALID_RECORD = "Invalid journal record on line %1$d of %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalBookStorage.class);
+
+    private final int minRecordsBeforeCompaction;
+
+    // What the files at persisted.filePath hold; null if unknown, so that the next save writes a snapshot
+    private PersistedState<E> persisted;
+
+    JournalBookStorage(int minRecordsBeforeCompaction) {
+        this.minRecordsBeforeCompaction = minRecordsBeforeCompaction;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Reads the snapshot stored in the file at {@code filePath} itself, without falling back to earlier generations.
+     */
+    abstract B readSnapshotFile(Path filePath) throws DataLoadingException;
+
+    /**
+     * Returns how many earlier generations of the snapshot are kept to fall back on.
+     */
+    abstract int getGenerationsKept();
+
+    abstract void saveSnapshot(B book, Path filePath) throws IOException;
+
+    abstract List<E> getEntries(B book);
+
+    abstract int getNextUuid(B book);
+
+    abstract EntryChange<E> getLatestChange(B book);
+
+    abstract int getUuidValue(E entry);
+
+    abstract JsonJournalRecord toPutRecord(E entry);
+
+    /**
+     * Converts the entry stored in a put record back into the model's type.
+     *
+     * @throws IllegalValueException if the record holds no entry or the entry violates data constraints.
+     */
+    abstract E fromPutRecord(JsonJournalRecord record) throws IllegalValueException;
+
+    /**
+     * Builds a book holding {@code entries}, in order, and the given UUID counter.
+     *
+     * @throws IllegalValueException if the entries contain duplicates.
+     */
+    abstract B toBook(Collection<E> entries, int nextUuid) throws IllegalValueException;
+
+    /**
+     * Reads the snapshot at {@code filePath}, or the newest earlier generation of it that loads, and replays the
+     * journal on top of it if the journal was written for that snapshot.
+     *
+     * @throws DataLoadingException if either file could not be read or holds invalid data.
+     */
+    synchronized Optional<B> read(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        persisted = null;
+
+        // the checksum is taken of whichever file was loaded, so the journal is only replayed over the snapshot
+        // it was written for and not over an earlier generation
+        Optional<LoadedSnapshot<B>> loaded = JsonBookParser.readNewestValid(filePath, getGenerationsKept(),
+                this::readLoadedSnapshot);
+        if (loaded.isEmpty()) {
+            return Optional.empty();
+        }
+
+        B snapshot = loaded.get().book;
+        PersistedState<E> state = new PersistedState<>(filePath, loaded.get().checksum);
+        for (E entry : getEntries(snapshot)) {
+            state.entries.put(getUuidValue(entry), entry);
+        }
+        state.nextUuid = getNextUuid(snapshot);
+        boolean isJournalIntact = replayJournal(state);
+
+        B book;
+        try {
+            book = toBook(state.entries.values(), state.nextUuid);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        if (isJournalIntact) {
+            persisted = state;
+        }
+        return Optional.of(book);
+    }
+
+    /**
+     * Saves {@code book} to {@code filePath}, appending to the journal when the previous state of the file is
+     * known and writing a full snapshot otherwise.
+     */
+    synchronized void save(B book, Path filePath) throws IOException {
+        requireNonNull(book);
+        requireNonNull(filePath);
+
+        if (persisted == null || !persisted.filePath.equals(filePath)) {
+            compact(book, filePath);
+            return;
+        }
+
+        EntryChange<E> latestChange = getLatestChange(book);
+        Map<Integer, E> changes = Optional.ofNullable(persisted.latestChange)
+                .flatMap(persistedChange -> persistedChange.getChangesUntil(latestChange))
+                .orElseGet(() -> compareEntries(getEntries(book)));
+        int nextUuid = getNextUuid(book);
+        List<JsonJournalRecord> records = diff(changes, nextUuid);
+        if (records.isEmpty()) {
+            persisted.latestChange = latestChange;
+            return;
+        }
+        int compactionThreshold = Math.max(minRecordsBeforeCompaction, getEntries(book).size());
+        if (persisted.recordCount + records.size() >= compactionThreshold) {
+            compact(book, filePath);
+            return;
+        }
+
+        appendToJournal(records);
+        for (Map.Entry<Integer, E> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                persisted.entries.remove(change.getKey());
+            } else {
+                persisted.entries.put(change.getKey(), change.getValue());
+            }
+        }
+        persisted.nextUuid = nextUuid;
+        persisted.recordCount += records.size();
+        persisted.latestChange = latestChange;
+    }
+
+    /**
+     * Writes {@code book} as a new snapshot and discards the journal.
+     */
+    private void compact(B book, Path filePath) throws IOException {
+        persisted = null;
+        saveSnapshot(book, filePath);
+        Files.deleteIfExists(getJournalPath(filePath));
+
+        PersistedState<E> state = new PersistedState<>(filePath, checksumOf(filePath));
+        for (E entry : getEntries(book)) {
+            state.entries.put(getUuidValue(entry), entry);
+        }
+        state.nextUuid = getNextUuid(book);
+        state.latestChange = getLatestChange(book);
+        persisted = state;
+    }
+
+    /**
+     * Returns the entries that differ between the persisted state and {@code entries}, in the form of
+     * {@link EntryChange#getChangesUntil}. Entries are compared by reference, which is enough because the model
+     * replaces an entry whenever it changes.
+     */
+    private Map<Integer, E> compareEntries(List<E> entries) {
+        Map<Integer, E> changes = new LinkedHashMap<>();
+        Set<Integer> removedUuids = new HashSet<>(persisted.entries.keySet());
+        for (E entry : entries) {
+            int uuid = getUuidValue(entry);
+            removedUuids.remove(uuid);
+            if (persisted.entries.get(uuid) != entry) {
+                changes.put(uuid, entry);
+            }
+        }
+        for (int removedUuid : removedUuids) {
+            changes.put(removedUuid, null);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the records that apply {@code changes} and the counter to the persisted state. Only the changed
+     * entries are visited, and changes that leave an entry as it is persisted are left out.
+     */
+    private List<JsonJournalRecord> diff(Map<Integer, E> changes, int nextUuid) {
+        List<JsonJournalRecord> records = new ArrayList<>();
+        List<JsonJournalRecord> puts = new ArrayList<>();
+        for (Map.Entry<Integer, E> change : changes.entrySet()) {
+            int uuid = change.getKey();
+            E entry = change.getValue();
+            if (entry == null && persisted.entries.containsKey(uuid)) {
+                records.add(JsonJournalRecord.remove(uuid));
+            } else if (entry != null && persisted.entries.get(uuid) != entry) {
+                puts.add(toPutRecord(entry));
+            }
+        }
+        records.addAll(puts);
+        if (nextUuid != persisted.nextUuid) {
+            records.add(JsonJournalRecord.nextUuid(nextUuid));
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<JsonJournalRecord> records) throws IOException {
+        Path journalPath = getJournalPath(persisted.filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalPath)) {
+            lines.append(JsonUtil.toCompactJsonString(
+                    new JsonJournalRecord(OP_BASE, persisted.snapshotChecksum, null, null))).append('\n');
+        }
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the journal of {@code state.filePath}, if there is one, to {@code state}.
+     *
+     * @return false if the journal belongs to another snapshot or ends in a torn record, which means it must not be
+     *     appended to and the next save compacts.
+     * @throws DataLoadingException if the journal could not be read or holds an invalid record before its end.
+     */
+    private boolean replayJournal(PersistedState<E> state) throws DataLoadingException {
+        Path journalPath = getJournalPath(state.filePath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            return true;
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            JsonJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping torn record at the end of " + journalPath);
+                    return false;
+                }
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_RECORD, i + 1, journalPath)));
+            }
+
+            if (i == 0) {
+                if (!isBaseFor(record, state)) {
+                    logger.warning("Ignoring journal " + journalPath + " as it does not belong to the snapshot");
+                    return false;
+                }
+                continue;
+            }
+            try {
+                apply(record, state);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            state.recordCount++;
+        }
+        return true;
+    }
+
+    private static boolean isBaseFor(JsonJournalRecord record, PersistedState<?> state) {
+        return OP_BASE.equals(record.getOp()) && record.getValue() != null
+                && record.getValue() == state.snapshotChecksum;
+    }
+
+    private void apply(JsonJournalRecord record, PersistedState<E> state) throws IllegalValueException {
+        String op = String.valueOf(record.getOp());
+        switch (op) {
+        case JsonJournalRecord.OP_PUT:
+            E entry = fromPutRecord(record);
+            state.entries.put(getUuidValue(entry), entry);
+            break;
+        case JsonJournalRecord.OP_REMOVE:
+            state.entries.remove(requireValue(record));
+            break;
+        case JsonJournalRecord.OP_NEXT_UUID:
+            state.nextUuid = requireValue(record);
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal operation: " + op);
+        }
+    }
+
+    private static int requireValue(JsonJournalRecord record) throws IllegalValueException {
+        if (record.getValue() == null) {
+            throw new IllegalValueException("Journal record is missing its value: " + record.getOp());
+        }
+        return record.getValue();
+    }
+
+    private LoadedSnapshot<B> readLoadedSnapshot(Path filePath) throws DataLoadingException {
+        B book = readSnapshotFile(filePath);
+        try {
+            return new LoadedSnapshot<>(book, checksumOf(filePath));
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static int checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A snapshot read from one file, and the checksum of that file.
+     */
+    private static class LoadedSnapshot<B> {
+        private final B book;
+        private final int checksum;
+
+        LoadedSnapshot(B book, int checksum) {
+            this.book = book;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * The entries and counter stored in a snapshot and its journal.
+     */
+    private static class PersistedState<E> {
+        private final Path filePath;
+        private final int snapshotChecksum;
+        private final Map<Integer, E> entries = new LinkedHashMap<>();
+        private int nextUuid;
+        private int recordCount;
+        // The latest change of the book when this state was written; null if unknown
+        private EntryChange<E> latestChange;
+
+        PersistedState(Path filePath, int snapshotChecksum) {
+            this.filePath = filePath;
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.EntryChange;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.property.Property;
+
+/**
+ * A class to access PropertyBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Saving a book that was read or saved through the same object appends only the properties that changed.
+ *
+ * @see JournalBookStorage
+ */
+public class JournalPropertyBookStorage extends JournalBookStorage<ReadOnlyPropertyBook, Property>
+        implements PropertyBookStorage {
+
+    private final Path filePath;
+    private final JsonPropertyBookStorage snapshotStorage;
+
+    public JournalPropertyBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it holds at least {@code minRecordsBeforeCompaction}
+     * records and at least as many records as the book has properties.
+     */
+    public JournalPropertyBookStorage(Path filePath, int minRecordsBeforeCompaction) {
+        this(filePath, new JsonPropertyBookStorage(filePath), minRecordsBeforeCompaction);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, whose snapshots are written the way
+     * {@link JsonPropertyBookStorage#JsonPropertyBookStorage(Path, boolean, int)} writes them.
+     */
+    public JournalPropertyBookStorage(Path filePath, boolean isPrettyPrinted, int generationsKept) {
+        this(filePath, new JsonPropertyBookStorage(filePath, isPrettyPrinted, generationsKept),
+                DEFAULT_MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    private JournalPropertyBookStorage(Path filePath, JsonPropertyBookStorage snapshotStorage,
+            int minRecordsBeforeCompaction) {
+        super(minRecordsBeforeCompaction);
+        this.filePath = filePath;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getPropertyBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPropertyBook> readPropertyBook() throws DataLoadingException {
+        return readPropertyBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyPropertyBook> readPropertyBook(Path filePath) throws DataLoadingException {
+        return read(filePath);
+    }
+
+    @Override
+    public void savePropertyBook(ReadOnlyPropertyBook propertyBook) throws IOException {
+        savePropertyBook(propertyBook, filePath);
+    }
+
+    @Override
+    public void savePropertyBook(ReadOnlyPropertyBook propertyBook, Path filePath) throws IOException {
+        save(propertyBook, filePath);
+    }
+
+    @Override
+    ReadOnlyPropertyBook readSnapshotFile(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readPropertyBookFile(filePath);
+    }
+
+    @Override
+    int getGenerationsKept() {
+        return snapshotStorage.getGenerationsKept();
+    }
+
+    @Override
+    void saveSnapshot(ReadOnlyPropertyBook propertyBook, Path filePath) throws IOException {
+        snapshotStorage.savePropertyBook(propertyBook, filePath);
+    }
+
+    @Override
+    List<Property> getEntries(ReadOnlyPropertyBook propertyBook) {
+        return propertyBook.getPropertyList();
+    }
+
+    @Override
+    int getNextUuid(ReadOnlyPropertyBook propertyBook) {
+        return propertyBook.getNextUuid();
+    }
+
+    @Override
+    EntryChange<Property> getLatestChange(ReadOnlyPropertyBook propertyBook) {
+        return propertyBook.getLatestChange();
+    }
+
+    @Override
+    int getUuidValue(Property property) {
+        return property.getUuid().getValue();
+    }
+
+    @Override
+    JsonJournalRecord toPutRecord(Property property) {
+        return JsonJournalRecord.put(new JsonAdaptedProperty(property));
+    }
+
+    @Override
+    Property fromPutRecord(JsonJournalRecord record) throws IllegalValueException {
+        if (record.getProperty() == null) {
+            throw new IllegalValueException("Journal record is missing its property");
+        }
+        return record.getProperty().toModelType();
+    }
+
+    @Override
+    ReadOnlyPropertyBook toBook(Collection<Property> properties, int nextUuid) throws IllegalValueException {
+        PropertyBook propertyBook = new PropertyBook();
+        for (Property property : properties) {
+            if (propertyBook.hasProperty(property)) {
+                throw new IllegalValueException(JsonSerializablePropertyBook.MESSAGE_DUPLICATE_PROPERTY);
+            }
+            propertyBook.addProperty(property);
+        }
+        propertyBook.setNextUuid(nextUuid);
+        return propertyBook;
+    }
+}
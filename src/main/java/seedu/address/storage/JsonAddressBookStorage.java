@@ -10,27 +10,48 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int DEFAULT_GENERATIONS_KEPT = 2;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int generationsKept;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, DEFAULT_GENERATIONS_KEPT);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented for reading by people.
+     * @param generationsKept how many earlier versions of the file each save keeps, to fall back on when the
+     *     file cannot be loaded.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, int generationsKept) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.generationsKept = generationsKept;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    int getGenerationsKept() {
+        return generationsKept;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -44,19 +65,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return JsonBookParser.readNewestValid(filePath, generationsKept, this::readAddressBookFile);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
-            return Optional.empty();
-        }
-
+    /**
+     * Reads the book stored in the file at {@code filePath} itself, without falling back to earlier generations.
+     */
+    ReadOnlyAddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            int nextUuid = JsonBookParser.parse(filePath, "contacts", JsonAdaptedContact.class, adapted -> {
+                Contact contact = adapted.toModelType();
+                if (addressBook.hasContact(contact)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
+                }
+                addressBook.addContact(contact);
+            });
+            addressBook.setNextUuid(nextUuid);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return addressBook;
     }
 
     @Override
@@ -73,8 +106,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonBookWriter.write(filePath, "contacts", addressBook.getContactList(), JsonAdaptedContact::new,
+                addressBook.getNextUuid(), isPrettyPrinted, generationsKept);
     }
 
 }
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads a book file written by the JSON storages one entry at a time.
+ * <p>
+ * Each element of the entries array is bound to its adapted type and handed to an {@link EntryHandler} before the
+ * next element is read, so only one adapted entry is held in memory at a time instead of the whole file as a
+ * {@code String} plus a list of every adapted entry.
+ * </p><p>
+ * {@link #readNewestValid} falls back to the earlier generations kept by the JSON storages when a file is
+ * missing or damaged.
+ * </p>
+ */
+final class JsonBookParser {
+
+    static final String FIELD_NEXT_UUID = "nextUuid";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonBookParser.class);
+
+    private JsonBookParser() {} // prevents instantiation
+
+    /**
+     * Receives the entries of a book as they are read.
+     */
+    @FunctionalInterface
+    interface EntryHandler<T> {
+        void accept(T entry) throws IllegalValueException;
+    }
+
+    /**
+     * Reads a book from one file.
+     */
+    @FunctionalInterface
+    interface BookReader<B> {
+        B read(Path filePath) throws DataLoadingException;
+    }
+
+    /**
+     * Reads the newest readable version of the book at {@code filePath}: the file itself or, if it is missing or
+     * cannot be loaded, the most recent of its earlier generations (see {@link FileUtil#getGenerationPath}).
+     *
+     * @return the book, or {@code Optional.empty()} if neither the file nor any generation of it exists.
+     * @throws DataLoadingException the failure of the newest version, if every existing version failed to load.
+     */
+    static <B> Optional<B> readNewestValid(Path filePath, int generationsKept, BookReader<B> reader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        DataLoadingException newestFailure = null;
+        for (int generation = 0; generation <= generationsKept; generation++) {
+            Path candidate = generation == 0 ? filePath : FileUtil.getGenerationPath(filePath, generation);
+            if (!FileUtil.isFileExists(candidate)) {
+                continue;
+            }
+            try {
+                B book = reader.read(candidate);
+                if (generation > 0) {
+                    logger.warning("Data file " + filePath + " could not be loaded. Using its earlier version at "
+                            + candidate + " instead.");
+                }
+                return Optional.of(book);
+            } catch (DataLoadingException e) {
+                if (newestFailure == null) {
+                    newestFailure = e;
+                }
+            }
+        }
+
+        if (newestFailure != null) {
+            throw newestFailure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the book at {@code filePath}, passing every element of the {@code entriesField} array to
+     * {@code handler} in order. Other fields, apart from the UUID counter, are skipped.
+     *
+     * @return the stored UUID counter, or 0 if the file does not store one.
+     * @throws IOException if the file could not be read or is not a JSON object.
+     * @throws IllegalValueException if {@code handler} rejects an entry.
+     */
+    static <T> int parse(Path filePath, String entriesField, Class<T> entryType, EntryHandler<T> handler)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(entriesField);
+
+        int nextUuid = 0;
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object in " + filePath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (entriesField.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        handler.accept(parser.readValueAs(entryType));
+                    }
+                } else if (FIELD_NEXT_UUID.equals(field) && value.isNumeric()) {
+                    nextUuid = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return nextUuid;
+    }
+}
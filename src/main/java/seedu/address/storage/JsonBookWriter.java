@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Writes a book file in the format read by {@link JsonBookParser}, one entry at a time.
+ * <p>
+ * Each entry is adapted and written to a buffered {@code FileChannel} before the next one is adapted, so neither
+ * a list of adapted entries nor the whole document as a {@code String} is built. The file is replaced atomically
+ * through {@link FileUtil#writeAtomically(Path, int, FileUtil.ContentWriter)}.
+ * </p>
+ */
+final class JsonBookWriter {
+
+    private JsonBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code entries}, as an array named {@code entriesField}, and the UUID counter to {@code filePath},
+     * replacing the file if it exists. The entries are iterated over once, so they may be generated as they are
+     * written.
+     *
+     * @param adapter converts an entry into the object that is serialized for it.
+     * @param isPrettyPrinted whether to indent the output.
+     * @param generationsToKeep how many earlier versions of the file to keep.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static <E> void write(Path filePath, String entriesField, Iterable<? extends E> entries,
+            Function<? super E, ?> adapter, int nextUuid, boolean isPrettyPrinted, int generationsToKeep)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(entriesField);
+        requireNonNull(entries);
+
+        FileUtil.writeAtomically(filePath, generationsToKeep, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(entriesField);
+                for (E entry : entries) {
+                    generator.writeObject(adapter.apply(entry));
+                }
+                generator.writeEndArray();
+                generator.writeNumberField(JsonBookParser.FIELD_NEXT_UUID, nextUuid);
+                generator.writeEndObject();
+            }
+        });
+    }
+}
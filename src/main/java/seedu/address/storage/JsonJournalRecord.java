@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A single line of a book journal, in JSON form.
+ * A record either stores an entry (replacing any entry with the same UUID), removes the entry with a UUID,
+ * or updates the book's stored UUID counter.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    public static final String OP_PUT = "put";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_NEXT_UUID = "nextUuid";
+
+    private final String op;
+    private final Integer value;
+    private final JsonAdaptedContact contact;
+    private final JsonAdaptedProperty property;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("value") Integer value,
+            @JsonProperty("contact") JsonAdaptedContact contact,
+            @JsonProperty("property") JsonAdaptedProperty property) {
+        this.op = op;
+        this.value = value;
+        this.contact = contact;
+        this.property = property;
+    }
+
+    static JsonJournalRecord put(JsonAdaptedContact contact) {
+        return new JsonJournalRecord(OP_PUT, null, contact, null);
+    }
+
+    static JsonJournalRecord put(JsonAdaptedProperty property) {
+        return new JsonJournalRecord(OP_PUT, null, null, property);
+    }
+
+    static JsonJournalRecord remove(int uuid) {
+        return new JsonJournalRecord(OP_REMOVE, uuid, null, null);
+    }
+
+    static JsonJournalRecord nextUuid(int nextUuid) {
+        return new JsonJournalRecord(OP_NEXT_UUID, nextUuid, null, null);
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    public Integer getValue() {
+        return value;
+    }
+
+    public JsonAdaptedContact getContact() {
+        return contact;
+    }
+
+    public JsonAdaptedProperty getProperty() {
+        return property;
+    }
+}
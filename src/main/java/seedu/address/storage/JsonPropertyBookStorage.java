@@ -10,27 +10,48 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PropertyBook;
 import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.property.Property;
 
 /**
  * A class to access PropertyBook data stored as a json file on the hard disk.
  */
 public class JsonPropertyBookStorage implements PropertyBookStorage {
 
+    public static final int DEFAULT_GENERATIONS_KEPT = 2;
+
     private static final Logger logger = LogsCenter.getLogger(JsonPropertyBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int generationsKept;
 
     public JsonPropertyBookStorage(Path filePath) {
+        this(filePath, true, DEFAULT_GENERATIONS_KEPT);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented for reading by people.
+     * @param generationsKept how many earlier versions of the file each save keeps, to fall back on when the
+     *     file cannot be loaded.
+     */
+    public JsonPropertyBookStorage(Path filePath, boolean isPrettyPrinted, int generationsKept) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.generationsKept = generationsKept;
     }
 
     public Path getPropertyBookFilePath() {
         return filePath;
     }
 
+    int getGenerationsKept() {
+        return generationsKept;
+    }
+
     @Override
     public Optional<ReadOnlyPropertyBook> readPropertyBook() throws DataLoadingException {
         return readPropertyBook(filePath);
@@ -44,19 +65,31 @@ public class JsonPropertyBookStorage implements PropertyBookStorage {
      */
     public Optional<ReadOnlyPropertyBook> readPropertyBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return JsonBookParser.readNewestValid(filePath, generationsKept, this::readPropertyBookFile);
+    }
 
-        Optional<JsonSerializablePropertyBook> jsonPropertyBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializablePropertyBook.class);
-        if (jsonPropertyBook.isEmpty()) {
-            return Optional.empty();
-        }
-
+    /**
+     * Reads the book stored in the file at {@code filePath} itself, without falling back to earlier generations.
+     */
+    ReadOnlyPropertyBook readPropertyBookFile(Path filePath) throws DataLoadingException {
+        PropertyBook propertyBook = new PropertyBook();
         try {
-            return Optional.of(jsonPropertyBook.get().toModelType());
+            int nextUuid = JsonBookParser.parse(filePath, "properties", JsonAdaptedProperty.class, adapted -> {
+                Property property = adapted.toModelType();
+                if (propertyBook.hasProperty(property)) {
+                    throw new IllegalValueException(JsonSerializablePropertyBook.MESSAGE_DUPLICATE_PROPERTY);
+                }
+                propertyBook.addProperty(property);
+            });
+            propertyBook.setNextUuid(nextUuid);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return propertyBook;
     }
 
     @Override
@@ -73,8 +106,8 @@ public class JsonPropertyBookStorage implements PropertyBookStorage {
         requireNonNull(propertyBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePropertyBook(propertyBook), filePath);
+        JsonBookWriter.write(filePath, "properties", propertyBook.getPropertyList(), JsonAdaptedProperty::new,
+                propertyBook.getNextUuid(), isPrettyPrinted, generationsKept);
     }
 
 }
@@ -14,6 +14,7 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Saving a book to its default file is skipped when that file already holds the same version of the book.
  */
 public class StorageManager implements Storage {
 
@@ -22,6 +23,10 @@ public class StorageManager implements Storage {
     private final PropertyBookStorage propertyBookStorage;
     private final UserPrefsStorage userPrefsStorage;
 
+    // Versions of the books last read from or written to the default file paths, or -1 if unknown
+    private long addressBookFileVersion = -1;
+    private long propertyBookFileVersion = -1;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage}
      * and {@code UserPrefStorage}.
@@ -59,7 +64,9 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(addressBookStorage.getAddressBookFilePath());
+        addressBookFileVersion = addressBook.map(ReadOnlyAddressBook::getVersion).orElse(-1L);
+        return addressBook;
     }
 
     @Override
@@ -70,7 +77,12 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBook.getVersion() == addressBookFileVersion) {
+            logger.fine("Address book unchanged since last save, skipping write");
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        addressBookFileVersion = addressBook.getVersion();
     }
 
     @Override
@@ -88,7 +100,9 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyPropertyBook> readPropertyBook() throws DataLoadingException {
-        return readPropertyBook(propertyBookStorage.getPropertyBookFilePath());
+        Optional<ReadOnlyPropertyBook> propertyBook = readPropertyBook(propertyBookStorage.getPropertyBookFilePath());
+        propertyBookFileVersion = propertyBook.map(ReadOnlyPropertyBook::getVersion).orElse(-1L);
+        return propertyBook;
     }
 
     @Override
@@ -99,7 +113,12 @@ public class StorageManager implements Storage {
 
     @Override
     public void savePropertyBook(ReadOnlyPropertyBook propertyBook) throws IOException {
+        if (propertyBook.getVersion() == propertyBookFileVersion) {
+            logger.fine("Property book unchanged since last save, skipping write");
+            return;
+        }
         savePropertyBook(propertyBook, propertyBookStorage.getPropertyBookFilePath());
+        propertyBookFileVersion = propertyBook.getVersion();
     }
 
     @Override
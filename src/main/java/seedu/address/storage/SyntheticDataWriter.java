@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Writes the contacts and properties of a {@link SyntheticDataGenerator} to address book and property book files,
+ * in the format read by {@link JsonAddressBookStorage} and {@link JsonPropertyBookStorage}.
+ * <p>
+ * Each entry is generated, written and dropped before the next one is generated, so books of millions of entries
+ * can be written without holding them in memory. Run from the command line as
+ * {@code SyntheticDataWriter [--contacts=N] [--properties=N] [--buyers-per-property=N] [--seed=N] [--dir=PATH]}.
+ * </p>
+ */
+public class SyntheticDataWriter {
+
+    public static final String MESSAGE_USAGE = "Usage: SyntheticDataWriter [--contacts=N] [--properties=N] "
+            + "[--buyers-per-property=N] [--seed=N] [--dir=PATH]";
+
+    private static final int DEFAULT_COUNT = 10_000;
+    private static final Set<String> ARG_NAMES = Set.of("contacts", "properties", "buyers-per-property", "seed", "dir");
+
+    private SyntheticDataWriter() {} // prevents instantiation
+
+    /**
+     * Writes the contacts of {@code generator} to {@code addressBookFilePath} and its properties to
+     * {@code propertyBookFilePath}, replacing the files if they exist.
+     *
+     * @throws IOException if there was an error writing to either file.
+     */
+    public static void write(SyntheticDataGenerator generator, Path addressBookFilePath, Path propertyBookFilePath)
+            throws IOException {
+        requireNonNull(generator);
+        JsonBookWriter.write(addressBookFilePath, "contacts", generator.contacts(), JsonAdaptedContact::new,
+                generator.getContactCount() + 1, false, 0);
+        JsonBookWriter.write(propertyBookFilePath, "properties", generator.properties(), JsonAdaptedProperty::new,
+                generator.getPropertyCount() + 1, false, 0);
+    }
+
+    /**
+     * Writes {@code addressbook.json} and {@code propertybook.json} as given by the command-line arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> namedArgs;
+        SyntheticDataGenerator generator;
+        try {
+            namedArgs = parseNamedArgs(args);
+            generator = new SyntheticDataGenerator(
+                    Long.parseLong(namedArgs.getOrDefault("seed", String.valueOf(SyntheticDataGenerator.DEFAULT_SEED))),
+                    Integer.parseInt(namedArgs.getOrDefault("contacts", String.valueOf(DEFAULT_COUNT))),
+                    Integer.parseInt(namedArgs.getOrDefault("properties", String.valueOf(DEFAULT_COUNT))),
+                    Double.parseDouble(namedArgs.getOrDefault("buyers-per-property",
+                            String.valueOf(SyntheticDataGenerator.DEFAULT_BUYERS_PER_PROPERTY))));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        Path directory = Paths.get(namedArgs.getOrDefault("dir", "data"));
+        write(generator, directory.resolve("addressbook.json"), directory.resolve("propertybook.json"));
+        System.out.println("Wrote " + generator.getContactCount() + " contacts and " + generator.getPropertyCount()
+                + " properties to " + directory.toAbsolutePath());
+    }
+
+    /**
+     * Returns the values of arguments of the form {@code --name=value}, by name.
+     *
+     * @throws IllegalArgumentException if an argument is not of that form, or has an unknown name.
+     */
+    static Map<String, String> parseNamedArgs(String... args) {
+        Map<String, String> namedArgs = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 3 || !ARG_NAMES.contains(arg.substring(2, separator))) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            namedArgs.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return namedArgs;
+    }
+}
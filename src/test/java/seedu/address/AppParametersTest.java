@@ -13,6 +13,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import javafx.application.Application;
+import seedu.address.logic.BatchMode;
 
 public class AppParametersTest {
 
@@ -39,10 +40,30 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "commands.txt");
+        expected.setScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("on-failure", "continue");
+        expected.setScriptMode(BatchMode.CONTINUE_ON_FAILURE);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptParameters_defaultsUsed() {
+        parametersStub.namedParameters.put("script", "a\0");
+        parametersStub.namedParameters.put("on-failure", "ignore");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", scriptMode=" + appParameters.getScriptMode() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +87,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script mode -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptMode(BatchMode.CONTINUE_ON_FAILURE);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
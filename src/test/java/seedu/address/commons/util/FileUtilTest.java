@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,32 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_repeatedWrites_keepsNewestGenerations() throws Exception {
+        Path file = testFolder.resolve("data").resolve("book.json");
+        for (String content : new String[] {"first", "second", "third", "fourth"}) {
+            FileUtil.writeAtomically(file, 2, out -> out.write(content.getBytes()));
+        }
+
+        assertEquals("fourth", Files.readString(file));
+        assertEquals("third", Files.readString(FileUtil.getGenerationPath(file, 1)));
+        assertEquals("second", Files.readString(FileUtil.getGenerationPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getGenerationPath(file, 3)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("book.json");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 2, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("original", Files.readString(file));
+        assertFalse(Files.exists(FileUtil.getGenerationPath(file, 1)));
+        assertFalse(Files.exists(file.resolveSibling("book.json" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
 }
@@ -0,0 +1,51 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchResultTest {
+
+    @Test
+    public void getFeedbackToUser() {
+        assertEquals(String.format(BatchResult.MESSAGE_SUCCESS, 3),
+                new BatchResult(3, Map.of(), false).getFeedbackToUser());
+
+        // failed lines listed in line order
+        assertEquals(String.format(BatchResult.MESSAGE_SOME_FAILED, 3, 2)
+                + "\n" + String.format(BatchResult.MESSAGE_LINE_ERROR, 2, "second")
+                + "\n" + String.format(BatchResult.MESSAGE_LINE_ERROR, 10, "tenth"),
+                new BatchResult(3, Map.of(10, "tenth", 2, "second"), false).getFeedbackToUser());
+
+        assertEquals(String.format(BatchResult.MESSAGE_ROLLED_BACK, 1)
+                + "\n" + String.format(BatchResult.MESSAGE_LINE_ERROR, 4, "fourth"),
+                new BatchResult(0, Map.of(4, "fourth"), true).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        BatchResult batchResult = new BatchResult(1, Map.of(2, "error"), false);
+
+        // same values -> returns true
+        assertTrue(batchResult.equals(new BatchResult(1, Map.of(2, "error"), false)));
+
+        // same object -> returns true
+        assertTrue(batchResult.equals(batchResult));
+
+        // null -> returns false
+        assertFalse(batchResult.equals(null));
+
+        // different executed count -> returns false
+        assertFalse(batchResult.equals(new BatchResult(2, Map.of(2, "error"), false)));
+
+        // different errors -> returns false
+        assertFalse(batchResult.equals(new BatchResult(1, Map.of(3, "error"), false)));
+
+        // different rolled back value -> returns false
+        assertFalse(batchResult.equals(new BatchResult(1, Map.of(2, "error"), true)));
+    }
+}
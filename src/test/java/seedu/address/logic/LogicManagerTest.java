@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -22,7 +25,10 @@ import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +37,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddContactCommand;
 import seedu.address.logic.commands.AddPropertyCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -99,6 +106,31 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_nonMutatingCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("propertyBook.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesChangedBookOnFlush() throws Exception {
+        logic.execute(AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.flush();
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("propertyBook.json")));
+    }
+
+    @Test
+    public void execute_exitCommand_flushesPendingChanges() throws Exception {
+        logic.execute(AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -111,6 +143,85 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeBatch_validLines_executesAllAndSavesOnFlush() throws Exception {
+        // the property is owned by the contact added before it, which is given the first contact ID
+        String addPropertyCommand = ADD_PROPERTY_COMMAND.replace(PREFIX_PROPERTY_OWNER + "owner123",
+                PREFIX_PROPERTY_OWNER + "1");
+        String addContactCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        BatchResult result = logic.executeBatch(List.of(addContactCommand, "", "# a comment", addPropertyCommand),
+                BatchMode.ROLL_BACK_ON_FAILURE);
+        assertEquals(new BatchResult(2, Map.of(), false), result);
+        assertEquals(String.format(BatchResult.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(1, model.getFilteredContactList().size());
+        assertEquals(1, model.getFilteredPropertyList().size());
+
+        logic.flush();
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertTrue(Files.exists(temporaryFolder.resolve("propertyBook.json")));
+    }
+
+    @Test
+    public void executeBatch_rollBackOnFailedCommand_undoesEarlierCommands() throws Exception {
+        String addContactCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String addPropertyCommand = ADD_PROPERTY_COMMAND.replace(PREFIX_PROPERTY_OWNER + "owner123",
+                PREFIX_PROPERTY_OWNER + "1");
+        BatchResult result = logic.executeBatch(List.of(addContactCommand, addPropertyCommand, "deletecontact 9"),
+                BatchMode.ROLL_BACK_ON_FAILURE);
+        assertEquals(new BatchResult(0, Map.of(3, String.format(MESSAGE_CONTACT_NOT_FOUND, 9)), true), result);
+        assertEquals(new ModelManager(), model);
+
+        logic.flush();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("propertyBook.json")));
+    }
+
+    @Test
+    public void executeBatch_rollBackOnUnexpectedException_undoesEarlierCommands() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void addProperty(Property property) {
+                throw new IllegalStateException();
+            }
+        };
+        setUp();
+        String addContactCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String addPropertyCommand = ADD_PROPERTY_COMMAND.replace(PREFIX_PROPERTY_OWNER + "owner123",
+                PREFIX_PROPERTY_OWNER + "1");
+        assertThrows(IllegalStateException.class, () -> logic.executeBatch(
+                List.of(addContactCommand, addPropertyCommand), BatchMode.ROLL_BACK_ON_FAILURE));
+        assertEquals(new ModelManager(), model);
+
+        logic.flush();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeBatch_rollBackOnUnparsableLines_executesNothing() {
+        BatchResult result = logic.executeBatch(List.of(ADD_PROPERTY_COMMAND, "nonsense", "uicfhmowqewca"),
+                BatchMode.ROLL_BACK_ON_FAILURE);
+        assertEquals(new BatchResult(0, Map.of(2, MESSAGE_UNKNOWN_COMMAND, 3, MESSAGE_UNKNOWN_COMMAND), true),
+                result);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeBatch_continueOnFailure_reportsEachFailedLine() {
+        String addContactCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        BatchResult result = logic.executeBatch(List.of("nonsense", addContactCommand, "deletecontact 9"),
+                BatchMode.CONTINUE_ON_FAILURE);
+        assertEquals(new BatchResult(1, Map.of(1, MESSAGE_UNKNOWN_COMMAND,
+                3, String.format(MESSAGE_CONTACT_NOT_FOUND, 9)), false), result);
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addContact(new ContactBuilderUtil(AMY).build());
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
@@ -172,6 +283,7 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds; the failure is reported when the pending changes are flushed.
      *
      * @param e the exception to be thrown by the Storage component
      * @param expectedMessage the message expected inside exception thrown by the Logic component
@@ -202,7 +314,7 @@ public class LogicManagerTest {
         Contact expectedContact = new ContactBuilderUtil(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addContact(expectedContact);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertFlushFailure(addCommand, expectedMessage, expectedModel);
     }
 
     private void assertPropertyCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
@@ -225,7 +337,19 @@ public class LogicManagerTest {
 
         ModelManager expectedModel = new ModelManager();
         expectedModel.addProperty(buildDefaultProperty());
-        assertCommandFailure(ADD_PROPERTY_COMMAND, CommandException.class, expectedMessage, expectedModel);
+        assertFlushFailure(ADD_PROPERTY_COMMAND, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Executes the command and confirms that
+     * - the command itself succeeds <br>
+     * - flushing the pending changes throws a {@code CommandException} with {@code expectedMessage} <br>
+     * - the internal model manager state is the same as that in {@code expectedModel} <br>
+     */
+    private void assertFlushFailure(String inputCommand, String expectedMessage, Model expectedModel) {
+        assertDoesNotThrow(() -> logic.execute(inputCommand));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.flush());
+        assertEquals(expectedModel, model);
     }
 
     private Property buildDefaultProperty() {
@@ -23,7 +23,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.FilterContactPredicate;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.ContactBuilderUtil;
 
@@ -156,11 +158,36 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Contact getContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Uuid generateNextContactUuid() {
+            return new AddressBook().generateNextUuid(); // UUID from a blank address book
+        }
+
+        @Override
+        public boolean isInFilteredContactList(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredContactList(Predicate<Contact> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredContactList(FilterContactPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showContactsAssociatedWith(Uuid propertyUuid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getPropertyBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -201,20 +228,55 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(List<Contact> editedContacts, List<Property> editedProperties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void suspendListChangeNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumeListChangeNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isInFilteredPropertyList(Property property) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPropertyList(Predicate<Property> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredPropertyList(PropertyMatchesFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showPropertiesAssociatedWith(Uuid contactUuid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Property getPropertyById(Uuid id) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Uuid generateNextPropertyUuid() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -26,7 +26,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.FilterContactPredicate;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.ContactBuilderUtil;
 import seedu.address.testutil.PropertyBuilderUtil;
@@ -172,11 +174,36 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Contact getContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Uuid generateNextContactUuid() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInFilteredContactList(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredContactList(Predicate<Contact> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredContactList(FilterContactPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showContactsAssociatedWith(Uuid propertyUuid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getPropertyBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -217,20 +244,55 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(List<Contact> editedContacts, List<Property> editedProperties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void suspendListChangeNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumeListChangeNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isInFilteredPropertyList(Property property) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPropertyList(Predicate<Property> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredPropertyList(PropertyMatchesFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showPropertiesAssociatedWith(Uuid contactUuid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Property getPropertyById(Uuid id) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Uuid generateNextPropertyUuid() {
+            return new PropertyBook().generateNextUuid(); // UUID from an empty property book
+        }
     }
 
     private static class ModelStubWithProperty extends ModelStub {
@@ -254,6 +316,11 @@ class AddPropertyCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return addressBook;
         }
+
+        @Override
+        public Contact getContactById(Uuid id) {
+            return addressBook.getContactById(id);
+        }
     }
 
     private static class ModelStubAcceptingPropertyAdded extends ModelStub {
@@ -281,6 +348,11 @@ class AddPropertyCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return addressBook;
         }
+
+        @Override
+        public Contact getContactById(Uuid id) {
+            return addressBook.getContactById(id);
+        }
     }
 
     private static class ModelStubWithoutOwner extends ModelStub {
@@ -291,6 +363,11 @@ class AddPropertyCommandTest {
             return addressBook;
         }
 
+        @Override
+        public Contact getContactById(Uuid id) {
+            return addressBook.getContactById(id);
+        }
+
         @Override
         public boolean hasProperty(Property property) {
             return false;
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -21,8 +22,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.FilterContactPredicate;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.Status;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.PropertyBuilderUtil;
 
@@ -96,6 +99,11 @@ public class MarkUnsoldCommandTest {
             return propertyMap.get(id);
         }
 
+        @Override
+        public Uuid generateNextPropertyUuid() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setProperty(Property target, Property editedProperty) {
             Uuid id = target.getUuid();
@@ -116,6 +124,21 @@ public class MarkUnsoldCommandTest {
             propertyMap.put(id, updatedWithSameId);
         }
 
+        @Override
+        public void applyBatch(List<Contact> editedContacts, List<Property> editedProperties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void suspendListChangeNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumeListChangeNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -181,11 +204,36 @@ public class MarkUnsoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Contact getContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Uuid generateNextContactUuid() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInFilteredContactList(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredContactList(Predicate<Contact> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredContactList(FilterContactPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showContactsAssociatedWith(Uuid propertyUuid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getPropertyBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -221,9 +269,24 @@ public class MarkUnsoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isInFilteredPropertyList(Property property) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPropertyList(Predicate<Property> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void narrowFilteredPropertyList(PropertyMatchesFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showPropertiesAssociatedWith(Uuid contactUuid) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
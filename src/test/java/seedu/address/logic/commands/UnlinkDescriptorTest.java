@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,14 +9,14 @@ import static seedu.address.logic.commands.CommandTestUtil.UNLINK_DESC_ALICE_PRO
 import static seedu.address.logic.commands.CommandTestUtil.UNLINK_DESC_AMY_PROPERTY_ALPHA;
 import static seedu.address.logic.commands.CommandTestUtil.UNLINK_DESC_BENSON_PROPERTY_BETA;
 import static seedu.address.logic.commands.CommandTestUtil.UNLINK_DESC_BOB_PROPERTY_BETA;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 import static seedu.address.testutil.TypicalContacts.ALICE;
 import static seedu.address.testutil.TypicalContacts.BENSON;
-import static seedu.address.testutil.TypicalContacts.getTypicalContacts;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
-import static seedu.address.testutil.TypicalProperties.getTypicalProperties;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -23,43 +24,49 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.UnlinkCommand.UnlinkDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.property.Property;
+import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.UnlinkDescriptorBuilder;
 
 public class UnlinkDescriptorTest {
 
     @Test
-    public void getContactsInList_duplicateContactIds_throwsCommandException() {
-
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
-        contactList.add(ALICE);
+    public void getContactsInModel_shownContact_returnsContact() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), getTypicalPropertyBook(), new UserPrefs());
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptorBuilder()
                 .withContactIds(Set.of(ALICE.getUuid())).build();
 
-        assertThrows(CommandException.class, () -> unlinkDescriptor.getContactsInList(contactList));
-
+        assertEquals(List.of(ALICE), unlinkDescriptor.getContactsInModel(model));
     }
 
     @Test
-    public void getPropertiesInList_duplicatePropertyIds_throwsCommandException() {
+    public void getContactsInModel_contactNotShown_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), getTypicalPropertyBook(), new UserPrefs());
+        model.updateFilteredContactList(contact -> !contact.equals(ALICE));
+        UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptorBuilder()
+                .withContactIds(Set.of(ALICE.getUuid())).build();
 
-        List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        propertyList.add(PROPERTY_ALPHA);
+        assertThrows(CommandException.class, () -> unlinkDescriptor.getContactsInModel(model));
+    }
+
+    @Test
+    public void getPropertiesInModel_unknownPropertyId_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), getTypicalPropertyBook(), new UserPrefs());
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptorBuilder()
-                .withPropertyIds(Set.of(PROPERTY_ALPHA.getUuid())).build();
+                .withPropertyIds(Set.of(new Uuid(999, PROPERTY))).build();
 
-        assertThrows(CommandException.class, () -> unlinkDescriptor.getPropertiesInList(propertyList));
+        assertThrows(CommandException.class, () -> unlinkDescriptor.getPropertiesInModel(model));
     }
 
     @Test
     public void throwExceptionIfUnlinked_linkedAsBuyer_noException() {
-        List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
-
-        propertyList.set(propertyList.indexOf(PROPERTY_ALPHA),
+        List<Property> propertyList = List.of(
                 PROPERTY_ALPHA.duplicateWithNewBuyingContactIds(Set.of(ALICE.getUuid())));
-        contactList.set(contactList.indexOf(ALICE),
+        List<Contact> contactList = List.of(
                 ALICE.duplicateWithNewBuyingPropertyIds(Set.of(PROPERTY_ALPHA.getUuid())));
 
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptor(UNLINK_DESC_ALICE_PROPERTY_ALPHA);
@@ -69,12 +76,9 @@ public class UnlinkDescriptorTest {
 
     @Test
     public void throwExceptionIfUnlinked_linkedAsSeller_noException() {
-        List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
-
-        propertyList.set(propertyList.indexOf(PROPERTY_BETA),
+        List<Property> propertyList = List.of(
                 PROPERTY_BETA.duplicateWithNewSellingContactIds(Set.of(BENSON.getUuid())));
-        contactList.set(contactList.indexOf(BENSON),
+        List<Contact> contactList = List.of(
                 BENSON.duplicateWithNewSellingPropertyIds(Set.of(PROPERTY_BETA.getUuid())));
 
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptor(UNLINK_DESC_BENSON_PROPERTY_BETA);
@@ -84,8 +88,8 @@ public class UnlinkDescriptorTest {
 
     @Test
     public void throwExceptionIfUnlinked_unlinked_throwsCommandException() {
-        List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
+        List<Property> propertyList = List.of(PROPERTY_ALPHA);
+        List<Contact> contactList = List.of(ALICE);
 
         UnlinkDescriptor unlinkDescriptor = new UnlinkDescriptor(UNLINK_DESC_ALICE_PROPERTY_ALPHA);
 
@@ -136,6 +136,38 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longerPrefixRecognized() {
+        Prefix t = new Prefix("t");
+        Prefix tSlash = new Prefix("t/");
+        String argsString = "preamble t/ slash value t plain value tt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, t, tSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, tSlash, "slash value");
+        assertArgumentPresent(argMultimap, t, "plain value", "t");
+    }
+
+    @Test
+    public void tokenizeArgs_reusedTokenizer_independentResults() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        StringBuilder argsString = new StringBuilder("SomePreambleString");
+        String[] expectedValues = new String[1000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = String.valueOf(i);
+            argsString.append(" p/").append(i);
+        }
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs(argsString.toString());
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+        assertArgumentAbsent(argMultimap, dashT);
+
+        argMultimap = tokenizer.tokenizeArgs(" -t dashT-Value");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -6,6 +6,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BATHROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BEDROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_BEDROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_BATHROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_BEDROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_FLOOR_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_MIN_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_OWNER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_POSTAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_PRICE;
@@ -131,4 +137,35 @@ public class FilterPropertyCommandParserTest {
     public void parseInvalidStatusThrowsParseException() {
         assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_PROPERTY_STATUS + "listed"));
     }
+
+    @Test
+    public void parseRangeArgsSuccess() throws Exception {
+        String input = " "
+                + PREFIX_PROPERTY_MIN_PRICE + "500000 "
+                + PREFIX_PROPERTY_MAX_PRICE + "800000 "
+                + PREFIX_PROPERTY_PRICE + "700000 "
+                + PREFIX_PROPERTY_MIN_FLOOR_AREA + "90 "
+                + PREFIX_PROPERTY_MIN_BEDROOM + "2 "
+                + PREFIX_PROPERTY_MAX_BEDROOM + "2 "
+                + PREFIX_PROPERTY_MIN_BATHROOM + "1";
+        FilterPropertyCommand expected =
+                new FilterPropertyCommand(
+                        new PropertyMatchesFilterPredicate.Builder()
+                                .withMinPrice("500000").withMaxPrice("800000").withPrice("700000")
+                                .withMinFloorArea("90").withMinBedroom("2").withMaxBedroom("2")
+                                .withMinBathroom("1").build());
+        assertEquals(expected, parser.parse(input));
+    }
+
+    @Test
+    public void parseMinGreaterThanMaxThrowsParseException() {
+        ParseException thrown = assertThrows(ParseException.class, () -> parser.parse(
+                " " + PREFIX_PROPERTY_MIN_PRICE + "900000 " + PREFIX_PROPERTY_MAX_PRICE + "800000"));
+        assertEquals(String.format(FilterPropertyCommandParser.MESSAGE_INVALID_RANGE, "price"), thrown.getMessage());
+    }
+
+    @Test
+    public void parseInvalidRangeBoundThrowsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_PROPERTY_MAX_BEDROOM + "21"));
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTIONS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BATHROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_BEDROOM;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddPropertyCommand;
 import seedu.address.logic.commands.EditContactCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.property.Property;
@@ -63,6 +65,26 @@ class UnifiedCommandParserTest {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("nonsense"));
     }
 
+    @Test
+    void parseCommand_misspeltCommand_suggestsCloseCommandWords() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTIONS, "link"), ()
+                -> parser.parseCommand("lnik 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTIONS,
+                "addcontact, addproperty"), () -> parser.parseCommand("add"));
+    }
+
+    @Test
+    void parseCommand_blankInput_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand("   "));
+    }
+
+    @Test
+    void constructor_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UnifiedCommandParser(List.of(
+                new AddressBookParser(), new AddressBookParser())));
+    }
+
     @Test
     void parseCommand_addressBookSpecificError_propagatesParseException() {
         String invalidEdit = EditContactCommand.COMMAND_WORD; // Missing index and fields
@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.testutil.ContactBuilderUtil;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null, 0, 0, EntryChange.start()));
+    }
+
+    @Test
+    public void getSnapshot_laterChangesToBook_notInSnapshot() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Contact> contacts = new ArrayList<>(addressBook.getContactList());
+        int nextUuid = addressBook.getNextUuid();
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+
+        addressBook.removeContact(ALICE);
+        addressBook.setContact(BENSON, new ContactBuilderUtil(BENSON).withPhone("99999999").build());
+        addressBook.generateNextUuid();
+        assertEquals(contacts, snapshot.getContactList());
+        assertEquals(nextUuid, snapshot.getNextUuid());
+    }
+
+    @Test
+    public void getSnapshot_afterReplaceContacts_holdsReplacements() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook before = addressBook.getSnapshot();
+        Contact benson = addressBook.getContactList().get(1);
+        Contact editedBenson = new ContactBuilderUtil(BENSON).withPhone("99999999").build();
+
+        addressBook.replaceContacts(Map.of(benson, editedBenson));
+        assertEquals(List.of(editedBenson), addressBook.getSnapshot().getContactList().subList(1, 2));
+        assertEquals(List.of(benson), before.getContactList().subList(1, 2));
+    }
+
+    @Test
+    public void resetData_fromSnapshot_sameContentsAndVersion() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook restored = new AddressBook(addressBook.getSnapshot());
+
+        assertEquals(addressBook, restored);
+        assertEquals(addressBook.getNextUuid(), restored.getNextUuid());
+        assertEquals(addressBook.getVersion(), restored.getVersion());
+    }
+
+    @Test
+    public void modify_snapshot_throwsUnsupportedOperationException() {
+        ReadOnlyAddressBook snapshot = getTypicalAddressBook().getSnapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getContactList().remove(0));
+    }
+}
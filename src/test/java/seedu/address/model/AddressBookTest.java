@@ -2,9 +2,11 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
-import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.ALICE;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
@@ -20,7 +22,6 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
-import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.ContactBuilderUtil;
 
 public class AddressBookTest {
@@ -79,6 +80,38 @@ public class AddressBookTest {
         assertTrue(addressBook.hasContact(editedAlice));
     }
 
+    @Test
+    public void getContactById_afterMutations_tracksContactList() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(ALICE, addressBook.getContactById(ALICE.getUuid()));
+
+        Contact editedAlice = new ContactBuilderUtil(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setContact(ALICE, editedAlice);
+        assertSame(editedAlice, addressBook.getContactById(ALICE.getUuid()));
+
+        addressBook.removeContact(editedAlice);
+        assertNull(addressBook.getContactById(ALICE.getUuid()));
+    }
+
+    @Test
+    public void getVersion_mutations_changeVersion() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addContact(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        addressBook.removeContact(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+        assertNotEquals(initialVersion, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_copy_sharesVersion() {
+        AddressBook original = getTypicalAddressBook();
+        assertEquals(original.getVersion(), new AddressBook(original).getVersion());
+        assertNotEquals(original.getVersion(), new AddressBook().getVersion());
+    }
+
     @Test
     public void getContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getContactList().remove(0));
@@ -106,13 +139,23 @@ public class AddressBookTest {
         }
 
         @Override
-        public Uuid generateNextUuid() {
-            return new Uuid(2, CONTACT);
+        public int getNextUuid() {
+            return 1;
         }
 
         @Override
-        public int getNextUuid() {
-            return 1;
+        public ReadOnlyAddressBook getSnapshot() {
+            return this;
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public EntryChange<Contact> getLatestChange() {
+            return EntryChange.start();
         }
     }
 
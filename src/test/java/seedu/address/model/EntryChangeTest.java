@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class EntryChangeTest {
+
+    @Test
+    public void getChangesUntil_laterChange_latestStateOfEachEntry() {
+        EntryChange<String> start = EntryChange.start();
+        EntryChange<String> saved = start.put(1, "a").put(2, "b");
+        EntryChange<String> latest = saved.put(3, "c").remove(2).put(3, "c2").put(2, "b2").remove(4);
+
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(3, "c2");
+        expected.put(2, "b2");
+        expected.put(4, null);
+        Map<Integer, String> changes = saved.getChangesUntil(latest).get();
+        assertEquals(expected, changes);
+        assertEquals(List.of(3, 2, 4), List.copyOf(changes.keySet()));
+    }
+
+    @Test
+    public void getChangesUntil_sameChange_noChanges() {
+        EntryChange<String> change = EntryChange.<String>start().put(1, "a");
+        assertEquals(Optional.of(Map.of()), change.getChangesUntil(change));
+    }
+
+    @Test
+    public void getChangesUntil_notFollowing_empty() {
+        EntryChange<String> start = EntryChange.start();
+        EntryChange<String> latest = start.put(1, "a");
+
+        assertFalse(latest.getChangesUntil(start).isPresent());
+        assertFalse(start.getChangesUntil(EntryChange.start()).isPresent());
+    }
+}
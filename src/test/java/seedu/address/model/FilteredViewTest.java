@@ -0,0 +1,223 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class FilteredViewTest {
+
+    private static final Predicate<String> SHOW_ALL = unused -> true;
+
+    private final List<String> tested = new ArrayList<>();
+    private ObservableList<String> source;
+    private FilteredView<String> view;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("apple", "banana", "cherry", "avocado");
+        view = new FilteredView<>(source, SHOW_ALL);
+    }
+
+    private Predicate<String> startsWith(String prefix) {
+        return s -> {
+            tested.add(s);
+            return s.startsWith(prefix);
+        };
+    }
+
+    @Test
+    public void setPredicate_samePredicate_nothingTested() {
+        Predicate<String> predicate = startsWith("a");
+        view.setPredicate(predicate);
+        tested.clear();
+
+        view.setPredicate(predicate);
+        assertEquals(List.of(), tested);
+        assertEquals(List.of("apple", "avocado"), view.getView());
+    }
+
+    @Test
+    public void narrow_onlyShownElementsTested() {
+        view.setPredicate(startsWith("a"));
+        tested.clear();
+
+        view.narrow(s -> {
+            tested.add(s);
+            return s.endsWith("o");
+        });
+        assertEquals(List.of("apple", "avocado"), tested);
+        assertEquals(List.of("avocado"), view.getView());
+    }
+
+    @Test
+    public void narrow_everyElementShown_matchesLookedUpNotTested() {
+        List<String> matches = List.of("avocado", "apple");
+
+        view.narrow(startsWith("a"), () -> matches);
+        assertEquals(List.of(), tested);
+        assertEquals(List.of("apple", "avocado"), view.getView());
+    }
+
+    @Test
+    public void narrow_someElementsHidden_shownElementsTestedInstead() {
+        view.setPredicate(startsWith("a"));
+        tested.clear();
+
+        view.narrow(startsWith("av"), () -> {
+            throw new AssertionError("The matches should not be looked up.");
+        });
+        assertEquals(List.of("apple", "avocado"), tested);
+        assertEquals(List.of("avocado"), view.getView());
+    }
+
+    @Test
+    public void narrow_equalPredicateAgain_notTestedAgain() {
+        Predicate<String> predicate = startsWith("a");
+        view.narrow(predicate);
+        tested.clear();
+
+        view.narrow(predicate);
+        source.add("apricot");
+        view.elementAdded("apricot");
+        // the added element is tested once, not once for each time the view was narrowed
+        assertEquals(List.of("apricot"), tested);
+        assertEquals(List.of("apple", "avocado", "apricot"), view.getView());
+    }
+
+    @Test
+    public void setPredicate_afterNarrow_narrowingDropped() {
+        view.narrow(startsWith("a"));
+        view.narrow(s -> s.length() > 5);
+        assertEquals(List.of("avocado"), view.getView());
+
+        view.setPredicate(SHOW_ALL);
+        assertEquals(List.of("apple", "banana", "cherry", "avocado"), view.getView());
+
+        // elements added later are not tested against the dropped predicates
+        source.add("date");
+        view.elementAdded("date");
+        assertEquals(List.of("apple", "banana", "cherry", "avocado", "date"), view.getView());
+    }
+
+    @Test
+    public void refresh_afterNarrow_narrowingDropped() {
+        view.narrow(startsWith("a"));
+
+        source.setAll("blueberry", "apricot");
+        view.refresh();
+        assertEquals(List.of("blueberry", "apricot"), view.getView());
+    }
+
+    @Test
+    public void elementAdded_onlyAddedElementTested() {
+        view.setPredicate(startsWith("a"));
+        tested.clear();
+
+        source.add("apricot");
+        view.elementAdded("apricot");
+        source.add("date");
+        view.elementAdded("date");
+        assertEquals(List.of("apricot", "date"), tested);
+        assertEquals(List.of("apple", "avocado", "apricot"), view.getView());
+    }
+
+    @Test
+    public void elementReplaced_keepsSourceOrder() {
+        view.setPredicate(startsWith("a"));
+
+        // hidden element now matches: shown between its shown neighbours
+        source.set(1, "almond");
+        view.elementReplaced("banana", "almond");
+        assertEquals(List.of("apple", "almond", "avocado"), view.getView());
+
+        // shown element no longer matches
+        source.set(0, "blueberry");
+        view.elementReplaced("apple", "blueberry");
+        assertEquals(List.of("almond", "avocado"), view.getView());
+
+        // shown element still matches
+        source.set(3, "acai");
+        view.elementReplaced("avocado", "acai");
+        assertEquals(List.of("almond", "acai"), view.getView());
+    }
+
+    @Test
+    public void elementRemoved_removedFromView() {
+        source.remove("cherry");
+        view.elementRemoved("cherry");
+        assertEquals(List.of("apple", "banana", "avocado"), view.getView());
+
+        // hidden element: nothing changes
+        view.setPredicate(startsWith("a"));
+        source.remove("banana");
+        view.elementRemoved("banana");
+        assertEquals(List.of("apple", "avocado"), view.getView());
+    }
+
+    @Test
+    public void elementsReplaced_onlyEditedElementsTested_singleChange() {
+        view.setPredicate(startsWith("a"));
+        tested.clear();
+        int[] changes = {0};
+        view.getView().addListener((ListChangeListener<String>) change -> changes[0]++);
+
+        Map<String, String> replacements = new IdentityHashMap<>();
+        String apple = source.get(0);
+        String banana = source.get(1);
+        String avocado = source.get(3);
+        replacements.put(apple, "blueberry");
+        replacements.put(banana, "almond");
+        replacements.put(avocado, "acai");
+        source.setAll(List.of("blueberry", "almond", "cherry", "acai"));
+        view.elementsReplaced(replacements);
+
+        assertEquals(3, tested.size());
+        assertEquals(1, changes[0]);
+        assertEquals(List.of("almond", "acai"), view.getView());
+    }
+
+    @Test
+    public void suspendNotifications_changesKeptUpToDate_singleChangeOnResume() {
+        int[] changes = {0};
+        view.getView().addListener((ListChangeListener<String>) change -> changes[0]++);
+
+        view.suspendNotifications();
+        source.add("apricot");
+        view.elementAdded("apricot");
+        source.remove("banana");
+        view.elementRemoved("banana");
+        view.setPredicate(startsWith("a"));
+        assertEquals(List.of("apple", "avocado", "apricot"), view.getView());
+        assertEquals(0, changes[0]);
+
+        view.resumeNotifications();
+        assertEquals(1, changes[0]);
+        assertEquals(List.of("apple", "avocado", "apricot"), view.getView());
+    }
+
+    @Test
+    public void narrow_thenElementReplaced_testsBothPredicates() {
+        view.narrow(s -> s.length() > 5);
+        assertEquals(List.of("banana", "cherry", "avocado"), view.getView());
+
+        source.set(0, "apples");
+        view.elementReplaced("apple", "apples");
+        assertEquals(List.of("apples", "banana", "cherry", "avocado"), view.getView());
+
+        view.narrow(startsWith("a"));
+        source.set(1, "bananas");
+        view.elementReplaced("banana", "bananas");
+        assertEquals(List.of("apples", "avocado"), view.getView());
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PROPERTIES;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.ALICE;
@@ -16,14 +18,21 @@ import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ContactBuilderUtil;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 public class ModelManagerTest {
 
@@ -51,6 +60,107 @@ public class ModelManagerTest {
         assertNull(modelManager.getPropertyById(new Uuid(999999, PROPERTY)));
     }
 
+    @Test
+    public void narrowFilteredPropertyList_propertyHiddenByFilter_staysHidden() {
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        modelManager.updateFilteredPropertyList(property -> property.equals(PROPERTY_BETA));
+
+        PropertyMatchesFilterPredicate predicate = new PropertyMatchesFilterPredicate.Builder()
+                .withStatus("available").build();
+        modelManager.narrowFilteredPropertyList(predicate);
+        assertEquals(List.of(PROPERTY_BETA), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void narrowFilteredPropertyList_editedToNoLongerMatch_hidden() {
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        modelManager.narrowFilteredPropertyList(new PropertyMatchesFilterPredicate.Builder()
+                .withStatus("available").build());
+
+        // an edited property is tested against the filters the list was narrowed by
+        Property unavailable = new PropertyBuilderUtil(PROPERTY_ALPHA).withStatus("unavailable").build();
+        modelManager.setProperty(PROPERTY_ALPHA, unavailable);
+        assertEquals(List.of(PROPERTY_BETA), modelManager.getFilteredPropertyList());
+
+        // setting a filter drops the filters the list was narrowed by
+        modelManager.updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
+        assertEquals(2, modelManager.getFilteredPropertyList().size());
+    }
+
+    @Test
+    public void narrowFilteredContactList_contactHiddenByFilter_staysHidden() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.updateFilteredContactList(contact -> contact.equals(BENSON));
+
+        FilterContactPredicate predicate = new FilterContactPredicate(Optional.empty(), Optional.empty(),
+                Optional.of(List.of("example.com")), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        modelManager.narrowFilteredContactList(predicate);
+        assertEquals(List.of(BENSON), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void showPropertiesAssociatedWith_linkedProperties_shownInListOrder() {
+        Property owned = new PropertyBuilderUtil(PROPERTY_BETA).withOwner("1").build();
+        Property bought = new PropertyBuilderUtil(PROPERTY_ALPHA).withBuyingContactIds(1).build();
+        modelManager.addProperty(owned);
+        modelManager.addProperty(bought);
+        Property unrelated = new PropertyBuilderUtil().withUuid(3).withBuyingContactIds(2).build();
+        modelManager.addProperty(unrelated);
+
+        modelManager.showPropertiesAssociatedWith(new Uuid(1, CONTACT));
+        assertEquals(List.of(owned, bought), modelManager.getFilteredPropertyList());
+
+        // properties linked later are shown too
+        Property sold = new PropertyBuilderUtil(unrelated).withSellingContactIds(1).build();
+        modelManager.setProperty(unrelated, sold);
+        assertEquals(List.of(owned, bought, sold), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void showContactsAssociatedWith_linkedContacts_shown() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(new PropertyBuilderUtil(PROPERTY_ALPHA).withOwner("2").build());
+
+        modelManager.showContactsAssociatedWith(new Uuid(1, PROPERTY));
+        assertEquals(List.of(BENSON), modelManager.getFilteredContactList());
+
+        modelManager.showContactsAssociatedWith(new Uuid(2, PROPERTY));
+        assertEquals(List.of(), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void applyBatch_editedEntries_replacedByUuid() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        Contact editedBenson = new ContactBuilderUtil(BENSON).withNotes("Linked").build();
+        Property editedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA).withBuyingContactIds(2).build();
+        Property editedBeta = new PropertyBuilderUtil(PROPERTY_BETA).withSellingContactIds(2).build();
+
+        modelManager.applyBatch(List.of(editedBenson), List.of(editedAlpha, editedBeta));
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredContactList());
+        assertEquals(List.of(editedAlpha, editedBeta), modelManager.getFilteredPropertyList());
+        assertTrue(modelManager.getPropertyById(new Uuid(1, PROPERTY)).hasBuyer(new Uuid(2, CONTACT)));
+    }
+
+    @Test
+    public void applyBatch_missingProperty_modelUnchanged() {
+        modelManager.addContact(ALICE);
+        Contact editedAlice = new ContactBuilderUtil(ALICE).withNotes("Linked").build();
+        Property missing = new PropertyBuilderUtil(PROPERTY_BETA).withUuid(99).build();
+
+        assertThrows(PropertyNotFoundException.class, () ->
+                modelManager.applyBatch(List.of(editedAlice), List.of(missing)));
+        assertEquals(List.of(ALICE), modelManager.getFilteredContactList());
+        assertSame(ALICE, modelManager.getContactById(ALICE.getUuid()));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -122,6 +232,24 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasContact(ALICE));
     }
 
+    @Test
+    public void getContactById_existingId_returnsContact() {
+        modelManager.addContact(ALICE);
+        assertEquals(ALICE, modelManager.getContactById(ALICE.getUuid()));
+        assertNull(modelManager.getContactById(BENSON.getUuid()));
+    }
+
+    @Test
+    public void isInFilteredContactList_followsCurrentPredicate() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        assertTrue(modelManager.isInFilteredContactList(ALICE));
+
+        modelManager.updateFilteredContactList(contact -> contact.equals(BENSON));
+        assertFalse(modelManager.isInFilteredContactList(ALICE));
+        assertTrue(modelManager.isInFilteredContactList(BENSON));
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredContactList().remove(0));
@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class PropertyBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PropertyBookSnapshot(null, 0, 0, EntryChange.start()));
+    }
+
+    @Test
+    public void getSnapshot_laterChangesToBook_notInSnapshot() {
+        PropertyBook propertyBook = getTypicalPropertyBook();
+        List<Property> properties = new ArrayList<>(propertyBook.getPropertyList());
+        int nextUuid = propertyBook.getNextUuid();
+        ReadOnlyPropertyBook snapshot = propertyBook.getSnapshot();
+
+        propertyBook.removeProperty(PROPERTY_ALPHA);
+        propertyBook.setProperty(PROPERTY_BETA, new PropertyBuilderUtil(PROPERTY_BETA).withPrice("500000").build());
+        propertyBook.generateNextUuid();
+        assertEquals(properties, snapshot.getPropertyList());
+        assertEquals(nextUuid, snapshot.getNextUuid());
+    }
+
+    @Test
+    public void resetData_fromSnapshot_sameContentsAndVersion() {
+        PropertyBook propertyBook = getTypicalPropertyBook();
+        PropertyBook restored = new PropertyBook(propertyBook.getSnapshot());
+
+        assertEquals(propertyBook, restored);
+        assertEquals(propertyBook.getNextUuid(), restored.getNextUuid());
+        assertEquals(propertyBook.getVersion(), restored.getVersion());
+    }
+
+    @Test
+    public void modify_snapshot_throwsUnsupportedOperationException() {
+        ReadOnlyPropertyBook snapshot = getTypicalPropertyBook().getSnapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPropertyList().remove(0));
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA_VARIANT;
@@ -13,6 +15,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +24,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 public class PropertyBookTest {
 
@@ -72,6 +76,37 @@ public class PropertyBookTest {
         assertTrue(propertyBook.hasProperty(PROPERTY_ALPHA_VARIANT));
     }
 
+    @Test
+    public void getPropertyById_afterMutations_tracksPropertyList() {
+        propertyBook.resetData(getTypicalPropertyBook());
+        assertEquals(PROPERTY_ALPHA, propertyBook.getPropertyById(PROPERTY_ALPHA.getUuid()));
+
+        Property editedAlpha = PROPERTY_ALPHA.duplicateWithNewBuyingContactIds(Set.of(new Uuid(1, CONTACT)));
+        propertyBook.setProperty(PROPERTY_ALPHA, editedAlpha);
+        assertSame(editedAlpha, propertyBook.getPropertyById(PROPERTY_ALPHA.getUuid()));
+
+        propertyBook.removeProperty(editedAlpha);
+        assertNull(propertyBook.getPropertyById(PROPERTY_ALPHA.getUuid()));
+    }
+
+    @Test
+    public void getPropertyById_contactUuidWithSameValue_returnsNull() {
+        propertyBook.addProperty(PROPERTY_ALPHA);
+        assertNull(propertyBook.getPropertyById(new Uuid(PROPERTY_ALPHA.getUuid().getValue(), CONTACT)));
+    }
+
+    @Test
+    public void generateNextUuid_afterAddAndRemove_doesNotReuseIds() {
+        propertyBook.resetData(getTypicalPropertyBook());
+        int nextId = propertyBook.generateNextUuid().getValue();
+        assertFalse(propertyBook.getPropertyList().stream().anyMatch(p -> p.getUuid().getValue() == nextId));
+
+        Property added = new PropertyBuilderUtil().withUuid(nextId).withPropertyAddress("1 New Road").build();
+        propertyBook.addProperty(added);
+        propertyBook.removeProperty(PROPERTY_ALPHA);
+        assertEquals(nextId + 1, propertyBook.generateNextUuid().getValue());
+    }
+
     @Test
     public void getPropertyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> propertyBook.getPropertyList().remove(0));
@@ -100,13 +135,23 @@ public class PropertyBookTest {
         }
 
         @Override
-        public Uuid generateNextUuid() {
-            return new Uuid(1, PROPERTY);
+        public int getNextUuid() {
+            return 1;
         }
 
         @Override
-        public int getNextUuid() {
-            return 1;
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ReadOnlyPropertyBook getSnapshot() {
+            return this;
+        }
+
+        @Override
+        public EntryChange<Property> getLatestChange() {
+            return EntryChange.start();
         }
     }
 }
@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SnapshotListTest {
+
+    // entries are "<uuid>:<value>"
+    private final SnapshotList<String> list = new SnapshotList<>(entry -> Integer.parseInt(entry.split(":")[0]));
+
+    @Test
+    public void snapshot_afterChanges_entriesInBookOrder() {
+        list.setAll(List.of("1:a", "2:b", "3:c"));
+        list.add("4:d");
+        list.replace("2:b", "2:e");
+        list.replace("3:c", "5:f");
+        list.remove("1:a");
+
+        assertEquals(List.of("2:e", "5:f", "4:d"), list.snapshot());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notInSnapshot() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i + ":x");
+            expected.add(i + ":x");
+        }
+        List<String> snapshot = list.snapshot();
+
+        list.replace("0:x", "0:y");
+        list.remove("4999:x");
+        list.add("5000:x");
+        assertEquals(expected, snapshot);
+        assertEquals(5000, list.snapshot().size());
+        assertEquals("0:y", list.snapshot().get(0));
+    }
+
+    @Test
+    public void remove_mostEntries_remainingEntriesKeptInOrder() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i + ":x");
+        }
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 == 0) {
+                expected.add(i + ":x");
+            } else {
+                list.remove(i + ":x");
+            }
+        }
+        assertEquals(expected, list.snapshot());
+
+        list.replace("500:x", "500:y");
+        expected.set(50, "500:y");
+        assertEquals(expected, list.snapshot());
+    }
+
+    @Test
+    public void replace_entriesSharingUuid_replacesGivenEntry() {
+        list.setAll(List.of("1:a", "1:b"));
+        list.replace("1:a", "1:c");
+        list.remove("1:b");
+
+        assertEquals(List.of("1:c"), list.snapshot());
+    }
+
+    @Test
+    public void remove_notAnEntry_throwsIllegalArgumentException() {
+        list.add("1:a");
+        assertThrows(IllegalArgumentException.class, () -> list.remove("2:b"));
+    }
+
+    @Test
+    public void modify_snapshot_throwsUnsupportedOperationException() {
+        list.add("1:a");
+        assertThrows(UnsupportedOperationException.class, () -> list.snapshot().remove(0));
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.ContactBuilderUtil;
+
+public class ContactTextIndexTest {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Meier", "Kurz", "Best", "Ng"};
+    private static final String[] STREETS = {"Jurong West Ave", "Clementi Ave", "Tampines St", "Serangoon Rd"};
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        for (int i = 1; i <= 60; i++) {
+            addressBook.addContact(buildContact(i));
+        }
+    }
+
+    private static Contact buildContact(int i) {
+        return new ContactBuilderUtil().withUuid(i)
+                .withName(FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i % LAST_NAMES.length])
+                .withPhone(String.valueOf(90000000 + i * 37))
+                .withEmail(FIRST_NAMES[i % FIRST_NAMES.length].toLowerCase() + i + "@example.com")
+                .withAddress(i + ", " + STREETS[i % STREETS.length] + " " + (i % 7))
+                .withNotes(i % 3 == 0 ? "Prefers high floor" : "Looking for a condo")
+                .withStatus(i % 2 == 0 ? "Active" : "Inactive")
+                .build();
+    }
+
+    private static FilterContactPredicate predicate(List<String> names, List<String> phones, List<String> emails,
+            List<String> addresses, Long budgetMin, List<String> notes, List<String> status) {
+        return new FilterContactPredicate(Optional.ofNullable(names), Optional.ofNullable(phones),
+                Optional.ofNullable(emails), Optional.ofNullable(addresses), Optional.ofNullable(budgetMin),
+                Optional.empty(), Optional.ofNullable(notes), Optional.ofNullable(status));
+    }
+
+    private static List<FilterContactPredicate> getPredicates() {
+        List<FilterContactPredicate> predicates = new ArrayList<>();
+        predicates.add(predicate(null, null, null, null, null, null, null));
+        predicates.add(predicate(List.of("ALICE"), null, null, null, null, null, null));
+        predicates.add(predicate(List.of("carl", "elle tan"), null, null, null, null, null, null));
+        predicates.add(predicate(null, List.of("900001"), List.of("elle5@"), null, null, null, null));
+        predicates.add(predicate(null, null, null, List.of("clementi ave 3"), null, List.of("HIGH FLOOR"), null));
+        predicates.add(predicate(List.of("daniel"), null, null, null, null, null, List.of("inactive")));
+        predicates.add(predicate(null, null, null, null, null, null, List.of(" Active ")));
+        predicates.add(predicate(null, null, null, List.of("nowhere"), null, null, null));
+        // too short for a trigram, or a budget filter: every contact is tested
+        predicates.add(predicate(List.of("an"), null, null, null, null, null, null));
+        predicates.add(predicate(List.of("benson"), null, null, null, 0L, null, null));
+        return predicates;
+    }
+
+    private Contact getById(int id) {
+        return addressBook.getContactById(new Uuid(id, CONTACT));
+    }
+
+    private void assertSameAsScan() {
+        for (FilterContactPredicate predicate : getPredicates()) {
+            Set<Contact> scanned = addressBook.getContactList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            List<Contact> found = addressBook.findContacts(predicate);
+            assertEquals(scanned.size(), found.size());
+            assertTrue(scanned.containsAll(found));
+        }
+    }
+
+    @Test
+    public void findContacts_afterAdds_sameAsScan() {
+        assertSameAsScan();
+    }
+
+    @Test
+    public void findContacts_afterEditsAndRemovals_sameAsScan() {
+        for (int i = 2; i <= 60; i += 4) {
+            Contact target = getById(i);
+            addressBook.setContact(target, new ContactBuilderUtil(target).withName("Carl Lim")
+                    .withNotes("Prefers high floor").withStatus("Inactive").build());
+        }
+        for (int i = 5; i <= 60; i += 5) {
+            addressBook.removeContact(getById(i));
+        }
+        assertSameAsScan();
+    }
+
+    @Test
+    public void findContacts_afterLinkOnlyEdits_sameAsScan() {
+        Map<Contact, Contact> replacements = new IdentityHashMap<>();
+        for (int i = 1; i <= 60; i += 3) {
+            Contact target = getById(i);
+            replacements.put(target, new ContactBuilderUtil(target)
+                    .withBuyingPropertyIds(new Uuid(i, PROPERTY)).build());
+        }
+        addressBook.replaceContacts(replacements);
+        for (Contact editedContact : replacements.values()) {
+            assertSame(editedContact, getById(editedContact.getUuid().getValue()));
+        }
+        assertSameAsScan();
+    }
+
+    @Test
+    public void findContacts_afterSetContacts_sameAsScan() {
+        List<Contact> replacement = new ArrayList<>();
+        for (int i = 100; i < 130; i++) {
+            replacement.add(buildContact(i));
+        }
+        addressBook.setContacts(replacement);
+        assertSameAsScan();
+    }
+}
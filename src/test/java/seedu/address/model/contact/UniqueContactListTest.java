@@ -161,6 +161,24 @@ public class UniqueContactListTest {
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContacts(listWithDuplicateContacts));
     }
 
+    @Test
+    public void setContacts_listWithDuplicateContacts_reportsCollidingEntries() {
+        Contact aliceWithBobName = new ContactBuilderUtil(ALICE).withName("Bob Choo").build();
+        List<Contact> listWithDuplicateContacts = Arrays.asList(ALICE, BOB, aliceWithBobName);
+        assertThrows(DuplicateContactException.class, "Operation would result in duplicate contacts: "
+                + "entry 3 (Bob Choo, " + ALICE.getPhone() + ") duplicates entry 1", ()
+                -> uniqueContactList.setContacts(listWithDuplicateContacts));
+        assertTrue(uniqueContactList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void contains_afterSetContactsAndRemove_tracksPhones() {
+        uniqueContactList.setContacts(Arrays.asList(ALICE, BOB));
+        uniqueContactList.remove(ALICE);
+        assertFalse(uniqueContactList.contains(ALICE));
+        assertTrue(uniqueContactList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -211,6 +211,46 @@ public class AssociatedWithPropertyPredicateTest {
         assertFalse(predicate.test(unrelatedContact));
     }
 
+    @Test
+    public void test_manyContacts_propertiesSearchedOnce() {
+        Property property = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withUuid(PROPERTY_UUID_1.getValue())
+                .withBuyingContactIds(CONTACT_UUID_1)
+                .build();
+        List<Property> properties = List.of(property);
+        int[] searches = {0};
+        Iterable<Property> countingProperties = () -> {
+            searches[0]++;
+            return properties.iterator();
+        };
+
+        AssociatedWithPropertyPredicate predicate =
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, countingProperties);
+
+        assertTrue(predicate.test(new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build()));
+        assertFalse(predicate.test(new ContactBuilderUtil().withUuid(CONTACT_UUID_2.getValue()).build()));
+        assertEquals(1, searches[0]);
+    }
+
+    @Test
+    public void test_propertyLookup_usesCurrentProperty() {
+        Property unlinked = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withUuid(PROPERTY_UUID_1.getValue())
+                .build();
+        Property[] current = {unlinked};
+        Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
+
+        AssociatedWithPropertyPredicate predicate =
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, uuid -> current[0]);
+        assertFalse(predicate.test(contact));
+
+        current[0] = new PropertyBuilderUtil(unlinked).withSellingContactIds(CONTACT_UUID_1).build();
+        assertTrue(predicate.test(contact));
+
+        current[0] = null;
+        assertFalse(predicate.test(contact));
+    }
+
     @Test
     public void toString_containsUuid() {
         AssociatedWithPropertyPredicate predicate =
@@ -0,0 +1,120 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PropertyBook;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class PropertyAttributeIndexTest {
+
+    private static final String[] TYPES = {"hdb", "condo", "landed"};
+
+    private PropertyBook propertyBook;
+
+    @BeforeEach
+    public void setUp() {
+        propertyBook = new PropertyBook();
+        for (int i = 1; i <= 60; i++) {
+            propertyBook.addProperty(buildProperty(i));
+        }
+    }
+
+    private static Property buildProperty(int i) {
+        return new PropertyBuilderUtil().withUuid(i)
+                .withPropertyAddress(i + " Test Avenue " + (i % 4))
+                .withPostal(String.valueOf(100000 + i % 5))
+                .withType(TYPES[i % TYPES.length])
+                .withStatus(i % 2 == 0 ? "available" : "unavailable")
+                .withBedroom(String.valueOf(i % 4))
+                .withBathroom(String.valueOf(i % 3))
+                .withFloorArea(String.valueOf(60 + 10 * (i % 6)))
+                .withPrice(String.valueOf(100000 * (1 + i % 7)))
+                .withOwner(String.valueOf(i % 8))
+                .build();
+    }
+
+    private static List<PropertyMatchesFilterPredicate> getPredicates() {
+        List<PropertyMatchesFilterPredicate> predicates = new ArrayList<>();
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withPostal("100003").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withType("CONDO").withStatus("available").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withBedroom("2").withBathroom("1").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withFloorArea("80").withOwner("3").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withPrice("300000").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withPrice("300000").withType("hdb").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withAddress("avenue 2").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withAddress("avenue 1").withPostal("100001")
+                .withBedroom("1").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withPostal("999999").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withBedroom("many").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withMinPrice("200000").withMaxPrice("400000")
+                .build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withMinFloorArea("80").withMinBedroom("2")
+                .withMaxBathroom("1").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withMinBedroom("0").withMaxBedroom("0")
+                .withType("hdb").build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withMaxFloorArea("70").withPrice("500000")
+                .build());
+        predicates.add(new PropertyMatchesFilterPredicate.Builder().withMinPrice("800000").build());
+        return predicates;
+    }
+
+    private Property getById(int id) {
+        return propertyBook.getPropertyById(new Uuid(id, PROPERTY));
+    }
+
+    private void assertSameAsScan() {
+        for (PropertyMatchesFilterPredicate predicate : getPredicates()) {
+            Set<Property> scanned = propertyBook.getPropertyList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            List<Property> found = propertyBook.findProperties(predicate);
+            assertEquals(scanned.size(), found.size());
+            assertTrue(scanned.containsAll(found));
+        }
+    }
+
+    @Test
+    public void findProperties_afterAdds_sameAsScan() {
+        assertSameAsScan();
+    }
+
+    @Test
+    public void findProperties_afterEditsAndRemovals_sameAsScan() {
+        for (int i = 3; i <= 60; i += 6) {
+            Property target = getById(i);
+            propertyBook.removeProperty(target);
+            propertyBook.addProperty(target);
+        }
+        for (int i = 2; i <= 60; i += 4) {
+            Property target = getById(i);
+            propertyBook.setProperty(target, new PropertyBuilderUtil(target).withPrice("150000").withBedroom("2")
+                    .withStatus("available").build());
+        }
+        for (int i = 5; i <= 60; i += 5) {
+            propertyBook.removeProperty(getById(i));
+        }
+        assertSameAsScan();
+    }
+
+    @Test
+    public void findProperties_afterSetProperties_sameAsScan() {
+        List<Property> replacement = new ArrayList<>();
+        for (int i = 100; i < 130; i++) {
+            replacement.add(buildProperty(i));
+        }
+        propertyBook.setProperties(replacement);
+        assertSameAsScan();
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PropertyBook;
+import seedu.address.model.property.PropertyLinkIndex.Link;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class PropertyLinkIndexTest {
+
+    private static final int PROPERTY_COUNT = 80;
+    private static final int CONTACT_COUNT = 30;
+
+    private PropertyBook propertyBook;
+
+    @BeforeEach
+    public void setUp() {
+        propertyBook = new PropertyBook();
+        for (int id = 1; id <= PROPERTY_COUNT; id++) {
+            propertyBook.addProperty(buildProperty(id, 0));
+        }
+    }
+
+    private static Property buildProperty(int id, int shift) {
+        // owners that are not canonical contact ids are never linked
+        String owner = id % 10 == 0 ? "agent" + id : id % 10 == 1 ? "0" + id : String.valueOf(1 + id % CONTACT_COUNT);
+        return new PropertyBuilderUtil().withUuid(id)
+                .withPropertyAddress("Blk " + id + " Clementi Ave 2").withPostal(String.valueOf(100000 + id))
+                .withOwner(owner)
+                .withBuyingContactIds(1 + (id + shift) % CONTACT_COUNT, 1 + (id * 7 + shift) % CONTACT_COUNT)
+                .withSellingContactIds(id % 3 == 0 ? new int[] {1 + (id * 3 + shift) % CONTACT_COUNT} : new int[0])
+                .build();
+    }
+
+    private void assertSameAsScan() {
+        for (int contactId = 1; contactId <= CONTACT_COUNT + 1; contactId++) {
+            Uuid contactUuid = new Uuid(contactId, CONTACT);
+            List<Property> scanned = propertyBook.getPropertyList().stream()
+                    .filter(p -> p.isAssociatedWith(contactUuid))
+                    .sorted((a, b) -> a.getUuid().getValue() - b.getUuid().getValue())
+                    .collect(Collectors.toList());
+            assertEquals(scanned, propertyBook.getPropertiesAssociatedWith(contactUuid));
+        }
+        for (Property property : propertyBook.getPropertyList()) {
+            List<Uuid> scanned = new ArrayList<>();
+            for (int contactId = 1; contactId <= CONTACT_COUNT; contactId++) {
+                if (property.isAssociatedWith(new Uuid(contactId, CONTACT))) {
+                    scanned.add(new Uuid(contactId, CONTACT));
+                }
+            }
+            assertEquals(scanned, propertyBook.getContactIdsAssociatedWith(property.getUuid()));
+        }
+    }
+
+    @Test
+    public void getAssociated_afterAdds_sameAsScan() {
+        assertSameAsScan();
+    }
+
+    @Test
+    public void getAssociated_afterEditsAndRemovals_sameAsScan() {
+        for (int id = 2; id <= PROPERTY_COUNT; id += 3) {
+            Property target = propertyBook.getPropertyById(new Uuid(id, PROPERTY));
+            propertyBook.setProperty(target, buildProperty(id, 5));
+        }
+        for (int id = 4; id <= PROPERTY_COUNT; id += 4) {
+            propertyBook.removeProperty(propertyBook.getPropertyById(new Uuid(id, PROPERTY)));
+        }
+        assertSameAsScan();
+        assertEquals(List.of(), propertyBook.getContactIdsAssociatedWith(new Uuid(4, PROPERTY)));
+    }
+
+    @Test
+    public void getIds_byLink_onlyThatLink() {
+        PropertyLinkIndex index = new PropertyLinkIndex();
+        index.add(new PropertyBuilderUtil().withUuid(7).withOwner("3")
+                .withBuyingContactIds(5, 2).withSellingContactIds(3).build());
+        index.add(new PropertyBuilderUtil().withUuid(4).withOwner("2")
+                .withBuyingContactIds(2).withSellingContactIds().build());
+
+        assertArrayEquals(new int[] {3}, index.getContactIds(7, Link.OWNER));
+        assertArrayEquals(new int[] {2, 5}, index.getContactIds(7, Link.BUYER));
+        assertArrayEquals(new int[] {2, 3, 5}, index.getAssociatedContactIds(7));
+        assertArrayEquals(new int[] {4, 7}, index.getPropertyIds(2, Link.BUYER));
+        assertArrayEquals(new int[] {4}, index.getPropertyIds(2, Link.OWNER));
+        assertArrayEquals(new int[] {}, index.getPropertyIds(2, Link.SELLER));
+        assertArrayEquals(new int[] {}, index.getAssociatedPropertyIds(1000));
+    }
+
+    @Test
+    public void add_ownerAboveLargestId_notLinked() {
+        PropertyLinkIndex index = new PropertyLinkIndex();
+        index.add(new PropertyBuilderUtil().withUuid(3).withOwner("999999999")
+                .withBuyingContactIds(2).withSellingContactIds().build());
+
+        assertArrayEquals(new int[] {}, index.getContactIds(3, Link.OWNER));
+        assertArrayEquals(new int[] {2}, index.getAssociatedContactIds(3));
+        assertArrayEquals(new int[] {}, index.getPropertyIds(Uuid.MAX_VALUE, Link.OWNER));
+    }
+}
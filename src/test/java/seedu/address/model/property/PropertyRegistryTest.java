@@ -0,0 +1,73 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class PropertyRegistryTest {
+
+    private PropertyRegistry propertyRegistry;
+    private Property alpha;
+    private Property beta;
+
+    @BeforeEach
+    public void setUp() {
+        propertyRegistry = new PropertyRegistry();
+        alpha = new PropertyBuilderUtil().withUuid(1).withPropertyAddress("1 Alpha Road").build();
+        beta = new PropertyBuilderUtil().withUuid(2).withPropertyAddress("2 Beta Road").build();
+    }
+
+    @Test
+    public void addProperty_nullProperty_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> propertyRegistry.addProperty(null));
+    }
+
+    @Test
+    public void addProperty_duplicateUuid_replacesOldProperty() {
+        propertyRegistry.addProperty(alpha);
+        Property newAlpha = new PropertyBuilderUtil().withUuid(alpha.getUuid().getValue())
+                .withPropertyAddress("1 Alpha Road New").build();
+        propertyRegistry.addProperty(newAlpha);
+        assertEquals(newAlpha, propertyRegistry.getProperty(alpha.getUuid().getValue()));
+    }
+
+    @Test
+    public void getProperty_existingId_returnsProperty() {
+        propertyRegistry.addProperty(beta);
+        assertEquals(beta, propertyRegistry.getProperty(beta.getUuid().getValue()));
+    }
+
+    @Test
+    public void getProperty_nonExistingId_returnsNull() {
+        assertNull(propertyRegistry.getProperty(999));
+    }
+
+    @Test
+    public void removeProperty_existingId_removesProperty() {
+        propertyRegistry.addProperty(alpha);
+        propertyRegistry.removeProperty(alpha.getUuid().getValue());
+        assertFalse(propertyRegistry.containsId(alpha.getUuid().getValue()));
+    }
+
+    @Test
+    public void clear_nonEmptyRegistry_removesAllProperties() {
+        propertyRegistry.addProperty(alpha);
+        propertyRegistry.addProperty(beta);
+        propertyRegistry.clear();
+        assertFalse(propertyRegistry.containsId(alpha.getUuid().getValue()));
+        assertFalse(propertyRegistry.containsId(beta.getUuid().getValue()));
+    }
+
+    @Test
+    public void containsId_existingId_returnsTrue() {
+        propertyRegistry.addProperty(alpha);
+        assertTrue(propertyRegistry.containsId(alpha.getUuid().getValue()));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class SortedLongIndexTest {
+
+    // Several times the chunk capacity, so that chunks are split and emptied
+    private static final int COUNT = 3000;
+
+    private final SortedLongIndex index = new SortedLongIndex(Property::getPriceValue);
+    private final List<Property> indexed = new ArrayList<>();
+
+    private static Property buildProperty(int id) {
+        // few distinct prices, so runs of equal keys span chunks
+        return new PropertyBuilderUtil().withUuid(id).withPrice(String.valueOf(1000 * (1 + id * 7 % 13))).build();
+    }
+
+    private void assertSameAsScan(long lowest, long highest) {
+        List<Integer> scanned = indexed.stream()
+                .filter(p -> p.getPriceValue() >= lowest && p.getPriceValue() <= highest)
+                .map(p -> p.getUuid().getValue()).sorted().collect(Collectors.toList());
+        List<Integer> found = index.range(lowest, highest).stream()
+                .map(p -> p.getUuid().getValue()).sorted().collect(Collectors.toList());
+        assertEquals(scanned, found);
+        assertEquals(scanned.size(), index.count(lowest, highest));
+    }
+
+    private void assertRangesSameAsScan() {
+        assertSameAsScan(0, Long.MAX_VALUE);
+        assertSameAsScan(3000, 3000);
+        assertSameAsScan(2500, 9000);
+        assertSameAsScan(13000, Long.MAX_VALUE);
+        assertSameAsScan(0, 999);
+        assertSameAsScan(5000, 4000);
+    }
+
+    @Test
+    public void range_addedOneAtATime_sameAsScan() {
+        for (int id = 1; id <= COUNT; id++) {
+            Property property = buildProperty(id);
+            index.add(property);
+            indexed.add(property);
+        }
+        assertRangesSameAsScan();
+    }
+
+    @Test
+    public void range_afterAddAllAndRemovals_sameAsScan() {
+        for (int id = 1; id <= COUNT; id++) {
+            indexed.add(buildProperty(id));
+        }
+        index.addAll(indexed);
+        for (int id = COUNT + 1; id <= COUNT + 200; id++) {
+            Property property = buildProperty(id);
+            index.add(property);
+            indexed.add(property);
+        }
+        List<Property> toRemove = indexed.stream().filter(p -> p.getUuid().getValue() % 3 != 0)
+                .collect(Collectors.toList());
+        for (Property property : toRemove) {
+            index.remove(property);
+        }
+        indexed.removeIf(p -> p.getUuid().getValue() % 3 != 0);
+        // not indexed, so nothing is removed
+        index.remove(buildProperty(3));
+        assertRangesSameAsScan();
+    }
+}
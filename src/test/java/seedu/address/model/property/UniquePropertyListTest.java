@@ -8,11 +8,16 @@ import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA_VARIANT;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 class UniquePropertyListTest {
 
@@ -71,6 +76,16 @@ class UniquePropertyListTest {
                 uniquePropertyList.setProperty(PROPERTY_BETA, PROPERTY_ALPHA_VARIANT));
     }
 
+    @Test
+    void setProperties_duplicateIdentities_reportsCollidingEntries() {
+        List<Property> properties = List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_ALPHA_VARIANT);
+
+        assertThrows(DuplicatePropertyException.class, "Operation would result in duplicate properties: "
+                + "entry 3 (123 Main St 5, 123456) duplicates entry 1", () ->
+                uniquePropertyList.setProperties(properties));
+        assertTrue(uniquePropertyList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     void remove_missingProperty_throwsPropertyNotFoundException() {
         uniquePropertyList.add(PROPERTY_ALPHA);
@@ -119,4 +134,74 @@ class UniquePropertyListTest {
 
         assertEquals(uniquePropertyList.hashCode(), otherList.hashCode());
     }
+
+    @Test
+    void identityIndex_randomMutations_staysConsistentWithList() {
+        // small pools of addresses and postals so that identity collisions happen often
+        String[] addresses = {"1 Kent Ridge Road", "1  Kent Ridge  Road", "1 KentRidge Road", "22 Clementi Ave 3",
+            "22 Clementi Ave3", "5 Sentosa Cove", "7 Orchard Blvd"};
+        String[] postals = {"119077", "120022", "098000"};
+        List<Property> candidates = new ArrayList<>();
+        int uuid = 1;
+        for (String address : addresses) {
+            for (String postal : postals) {
+                candidates.add(new PropertyBuilderUtil().withUuid(uuid++).withPropertyAddress(address)
+                        .withPostal(postal).withPrice(String.valueOf(100000 * uuid)).build());
+            }
+        }
+
+        Random random = new Random(2103);
+        List<Property> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Property candidate = candidates.get(random.nextInt(candidates.size()));
+            int operation = random.nextInt(10);
+            if (operation < 4) {
+                if (containsSameIdentity(expected, candidate)) {
+                    assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.add(candidate));
+                } else {
+                    uniquePropertyList.add(candidate);
+                    expected.add(candidate);
+                }
+            } else if (operation < 7 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Property target = expected.get(index);
+                if (!isSameIdentity(target, candidate) && containsSameIdentity(expected, candidate)) {
+                    assertThrows(DuplicatePropertyException.class, () ->
+                            uniquePropertyList.setProperty(target, candidate));
+                } else {
+                    uniquePropertyList.setProperty(target, candidate);
+                    expected.set(index, candidate);
+                }
+            } else if (operation < 9 && !expected.isEmpty()) {
+                uniquePropertyList.remove(expected.remove(random.nextInt(expected.size())));
+            } else {
+                List<Property> replacement = new ArrayList<>();
+                for (Property property : candidates) {
+                    if (random.nextBoolean() && !containsSameIdentity(replacement, property)) {
+                        replacement.add(property);
+                    }
+                }
+                uniquePropertyList.setProperties(replacement);
+                expected = replacement;
+            }
+
+            assertEquals(expected, uniquePropertyList.asUnmodifiableObservableList());
+            for (Property property : candidates) {
+                assertEquals(containsSameIdentity(expected, property), uniquePropertyList.contains(property));
+            }
+        }
+    }
+
+    /**
+     * Checks identity by scanning, independently of the identity key kept by {@code Property}.
+     */
+    private static boolean containsSameIdentity(List<Property> properties, Property toCheck) {
+        return properties.stream().anyMatch(property -> isSameIdentity(property, toCheck));
+    }
+
+    private static boolean isSameIdentity(Property first, Property second) {
+        return first.getPostal().equals(second.getPostal())
+                && first.getPropertyAddress().value.replaceAll("\\s+", "")
+                        .equals(second.getPropertyAddress().value.replaceAll("\\s+", ""));
+    }
 }
@@ -135,4 +135,55 @@ public class PropertyMatchesFilterPredicateTest {
         assertTrue(predicate.test(condoProperty));
         assertTrue(predicate.test(hdbProperty));
     }
+
+    @Test
+    public void testMatchesPriceAboveIntegerRangeSuccess() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withPrice("999999999999").build();
+        assertTrue(predicate.test(condoProperty));
+        assertTrue(predicate.test(hdbProperty));
+    }
+
+    @Test
+    public void testMatchesNonNumericBedroomFailure() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withBedroom("three").build();
+        assertFalse(predicate.test(condoProperty));
+        assertFalse(predicate.test(hdbProperty));
+    }
+
+    @Test
+    public void testMatchesAddressIgnoresCaseSuccess() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withAddress("BUKIT tim").build();
+        assertTrue(predicate.test(hdbProperty));
+        assertFalse(predicate.test(condoProperty));
+    }
+
+    @Test
+    public void testMatchesPriceRangeSuccess() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withMinPrice("500000").withMaxPrice("800000")
+                .build();
+        assertTrue(predicate.test(condoProperty));
+        assertFalse(predicate.test(hdbProperty));
+    }
+
+    @Test
+    public void testMatchesRangeBoundsInclusiveSuccess() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withMinBedroom("2").withMaxBedroom("2")
+                .withMinFloorArea("80").withMaxBathroom("1").build();
+        assertTrue(predicate.test(hdbProperty));
+        assertFalse(predicate.test(condoProperty));
+    }
+
+    @Test
+    public void testMatchesExactValueOutsideRangeFailure() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withBedroom("3").withMaxBedroom("2").build();
+        assertFalse(predicate.test(condoProperty));
+        assertFalse(predicate.test(hdbProperty));
+    }
+
+    @Test
+    public void equals_differentRange_returnsFalse() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withMinPrice("1").build();
+        assertTrue(predicate.equals(new PropertyMatchesFilterPredicate.Builder().withMinPrice("1").build()));
+        assertFalse(predicate.equals(new PropertyMatchesFilterPredicate.Builder().withMaxPrice("1").build()));
+    }
 }
@@ -0,0 +1,93 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Property;
+import seedu.address.model.uuid.Uuid;
+
+public class SyntheticDataGeneratorTest {
+
+    private static List<String> describe(SyntheticDataGenerator generator) {
+        List<String> entries = new ArrayList<>();
+        generator.contacts().forEach(contact -> entries.add(contact.toString()));
+        generator.properties().forEach(property -> entries.add(property.toString()));
+        return entries;
+    }
+
+    @Test
+    public void constructor_sameSeed_sameEntries() {
+        assertEquals(describe(new SyntheticDataGenerator(7, 40, 90, 2.5)),
+                describe(new SyntheticDataGenerator(7, 40, 90, 2.5)));
+        assertNotEquals(describe(new SyntheticDataGenerator(7, 40, 90, 2.5)),
+                describe(new SyntheticDataGenerator(8, 40, 90, 2.5)));
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1, -1, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1, 0, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1, 10, 10, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1, 3, 10, 3));
+    }
+
+    @Test
+    public void getContactAndGetProperty_linksAgree() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3, 40, 90, 2.5);
+        int buyingLinks = 0;
+        int sellingLinks = 0;
+        for (Contact contact : generator.contacts()) {
+            for (Uuid propertyId : contact.getBuyingPropertyIds()) {
+                assertTrue(generator.getProperty(propertyId.getValue()).hasBuyer(contact.getUuid()));
+                buyingLinks++;
+            }
+            for (Uuid propertyId : contact.getSellingPropertyIds()) {
+                Property property = generator.getProperty(propertyId.getValue());
+                assertTrue(property.hasSeller(contact.getUuid()) && property.isOwnedBy(contact.getUuid()));
+                sellingLinks++;
+            }
+        }
+        for (Property property : generator.properties()) {
+            for (Uuid contactId : property.getBuyingContactIds()) {
+                assertTrue(generator.getContact(contactId.getValue()).getBuyingPropertyIds()
+                        .contains(property.getUuid()));
+                buyingLinks--;
+            }
+            assertEquals(1, property.getSellingContactIds().size());
+            assertTrue(property.getSellingContactIds().stream().noneMatch(property.getBuyingContactIds()::contains));
+            sellingLinks--;
+        }
+        assertEquals(0, buyingLinks);
+        assertEquals(0, sellingLinks);
+    }
+
+    @Test
+    public void properties_buyersPerProperty_averageMatches() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(5, 1000, 5000, 1.5);
+        int buyers = 0;
+        for (Property property : generator.properties()) {
+            buyers += property.getBuyingContactIds().size();
+        }
+        assertEquals(1.5, (double) buyers / generator.getPropertyCount(), 0.1);
+    }
+
+    @Test
+    public void getAddressBookAndGetPropertyBook_noDuplicates() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED, 20000,
+                20000, SyntheticDataGenerator.DEFAULT_BUYERS_PER_PROPERTY);
+        assertEquals(20000, generator.getAddressBook().getContactList().size());
+        assertEquals(20000, generator.getPropertyBook().getPropertyList().size());
+        assertEquals(generator.getContact(20000), generator.getAddressBook().getContactById(new Uuid(20000, CONTACT)));
+        assertEquals(generator.getProperty(1), generator.getPropertyBook().getPropertyById(new Uuid(1, PROPERTY)));
+    }
+}
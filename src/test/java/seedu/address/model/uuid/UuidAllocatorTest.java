@@ -0,0 +1,80 @@
+package seedu.address.model.uuid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class UuidAllocatorTest {
+
+    private final UuidAllocator allocator = new UuidAllocator();
+
+    @Test
+    public void next_emptyAllocator_returnsOne() {
+        assertEquals(1, allocator.next());
+    }
+
+    @Test
+    public void next_doesNotMarkValueUsed() {
+        assertEquals(1, allocator.next());
+        assertEquals(1, allocator.next());
+        assertFalse(allocator.isUsed(1));
+    }
+
+    @Test
+    public void next_usedValues_skipsToFirstUnusedValue() {
+        allocator.markUsed(1);
+        allocator.markUsed(2);
+        allocator.markUsed(4);
+        assertEquals(3, allocator.next());
+        allocator.markUsed(3);
+        assertEquals(5, allocator.next());
+    }
+
+    @Test
+    public void next_releasedBelowHighWaterMark_notReused() {
+        allocator.markUsed(1);
+        allocator.markUsed(2);
+        assertEquals(3, allocator.next());
+        allocator.release(1);
+        assertEquals(3, allocator.next());
+    }
+
+    @Test
+    public void next_restoredHighWaterMark_startsFromMark() {
+        allocator.markUsed(1);
+        allocator.setNextUuid(10);
+        assertEquals(10, allocator.next());
+        assertEquals(10, allocator.getNextUuid());
+    }
+
+    @Test
+    public void setNextUuid_nonPositive_treatedAsOne() {
+        allocator.setNextUuid(0);
+        assertEquals(1, allocator.next());
+    }
+
+    @Test
+    public void clear_keepsHighWaterMark() {
+        allocator.markUsed(1);
+        allocator.markUsed(2);
+        assertEquals(3, allocator.next());
+        allocator.clear();
+        assertFalse(allocator.isUsed(1));
+        assertEquals(3, allocator.next());
+    }
+
+    @Test
+    public void markUsed_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> allocator.markUsed(0));
+        assertThrows(IllegalArgumentException.class, () -> allocator.markUsed(Uuid.MAX_VALUE + 1));
+    }
+
+    @Test
+    public void markUsed_maxValue_success() {
+        allocator.markUsed(Uuid.MAX_VALUE);
+        assertTrue(allocator.isUsed(Uuid.MAX_VALUE));
+    }
+}
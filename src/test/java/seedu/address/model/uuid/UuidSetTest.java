@@ -0,0 +1,95 @@
+package seedu.address.model.uuid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class UuidSetTest {
+
+    private static List<Uuid> inValueOrder(Set<Integer> values) {
+        List<Uuid> uuids = new ArrayList<>();
+        for (int value : new TreeSet<>(values)) {
+            uuids.add(new Uuid(value, CONTACT));
+        }
+        return uuids;
+    }
+
+    @Test
+    public void withAndWithout_manyIds_sameAsHashSet() {
+        Random random = new Random(2103);
+        Set<Integer> expected = new HashSet<>();
+        UuidSet set = UuidSet.of();
+        for (int i = 0; i < 20000; i++) {
+            int value = 1 + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                set = set.without(new Uuid(value, CONTACT));
+            } else {
+                expected.add(value);
+                set = set.with(new Uuid(value, CONTACT));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(inValueOrder(expected), new ArrayList<>(set));
+        assertEquals(new HashSet<>(inValueOrder(expected)), set);
+        assertEquals(new HashSet<>(inValueOrder(expected)).hashCode(), set.hashCode());
+        for (int value = 1; value <= 5000; value++) {
+            assertEquals(expected.contains(value), set.contains(new Uuid(value, CONTACT)));
+        }
+    }
+
+    @Test
+    public void with_existingSet_unchanged() {
+        Set<Integer> values = new HashSet<>();
+        for (int value = 1; value <= 5000; value++) {
+            values.add(value * 3);
+        }
+        UuidSet original = UuidSet.copyOf(inValueOrder(values));
+
+        UuidSet added = original.with(new Uuid(4, CONTACT));
+        UuidSet removed = original.without(new Uuid(300, CONTACT));
+        assertEquals(5001, added.size());
+        assertEquals(4999, removed.size());
+        assertEquals(inValueOrder(values), new ArrayList<>(original));
+        assertFalse(original.contains(new Uuid(4, CONTACT)));
+        assertTrue(original.contains(new Uuid(300, CONTACT)));
+
+        assertSame(original, original.with(new Uuid(3, CONTACT)));
+        assertSame(original, original.without(new Uuid(4, CONTACT)));
+    }
+
+    @Test
+    public void withoutAll_everyId_empty() {
+        UuidSet set = UuidSet.copyOf(List.of(new Uuid(2, CONTACT), new Uuid(1, CONTACT), new Uuid(2, CONTACT)));
+        assertEquals(List.of(new Uuid(1, CONTACT), new Uuid(2, CONTACT)), new ArrayList<>(set));
+        assertTrue(set.withoutAll(List.of(new Uuid(1, CONTACT), new Uuid(2, CONTACT))).isEmpty());
+    }
+
+    @Test
+    public void contains_differentItemType_false() {
+        UuidSet set = UuidSet.of().with(new Uuid(7, PROPERTY));
+        assertTrue(set.contains(new Uuid(7, PROPERTY)));
+        assertFalse(set.contains(new Uuid(7, CONTACT)));
+        assertEquals(List.of(new Uuid(7, PROPERTY)), new ArrayList<>(set));
+    }
+
+    @Test
+    public void add_modification_throwsUnsupportedOperationException() {
+        UuidSet set = UuidSet.of().with(new Uuid(1, CONTACT));
+        assertThrows(UnsupportedOperationException.class, () -> set.add(new Uuid(2, CONTACT)));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(new Uuid(1, CONTACT)));
+    }
+}
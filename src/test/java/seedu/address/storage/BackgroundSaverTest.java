@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundSaverTest {
+
+    // Long enough that scheduled writes never fire during a test; flush() drives every write.
+    private static final long NEVER = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+    private boolean isStorageFailing;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isStorageFailing) {
+                    throw new IOException("dummy IO exception");
+                }
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        storage = new StorageManager(addressBookStorage, new JsonPropertyBookStorage(testFolder.resolve("pb")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    @Test
+    public void flush_severalSubmissions_writesLatestSnapshotOnce() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(storage, NEVER);
+        AddressBook latest = getTypicalAddressBook();
+        saver.submit(new AddressBook(), null);
+        saver.submit(latest, null);
+
+        saver.flush();
+
+        assertEquals(List.of(latest), savedAddressBooks);
+        assertFalse(saver.hasPendingChanges());
+    }
+
+    @Test
+    public void flush_nothingSubmitted_writesNothing() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(storage, NEVER);
+        saver.flush();
+        assertTrue(savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void flush_storageFails_keepsSnapshotPendingUntilSaved() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(storage, NEVER);
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.submit(addressBook, null);
+
+        isStorageFailing = true;
+        assertThrows(IOException.class, saver::flush);
+        assertTrue(saver.hasPendingChanges());
+
+        isStorageFailing = false;
+        saver.flush();
+        assertEquals(List.of(addressBook), savedAddressBooks);
+    }
+}
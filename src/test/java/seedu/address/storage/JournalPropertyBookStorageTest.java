@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA_VARIANT;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_GAMMA;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class JournalPropertyBookStorageTest {
+
+    private static final Property PROPERTY_DELTA = new PropertyBuilderUtil(PROPERTY_GAMMA).withUuid(4)
+            .withPropertyAddress("77 Harbour Rd 3").withPostal("118877").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private PropertyBook propertyBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("propertybook.json");
+        journalPath = JournalBookStorage.getJournalPath(filePath);
+        propertyBook = getTypicalPropertyBook();
+        propertyBook.setNextUuid(4);
+    }
+
+    @Test
+    public void readPropertyBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalPropertyBookStorage(filePath).readPropertyBook().isPresent());
+    }
+
+    @Test
+    public void savePropertyBook_firstSave_writesSnapshotOnly() throws Exception {
+        new JournalPropertyBookStorage(filePath).savePropertyBook(propertyBook);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(propertyBook, new JsonPropertyBookStorage(filePath).readPropertyBook().get());
+    }
+
+    @Test
+    public void savePropertyBook_changesAfterSnapshot_appendsOnlyChanges() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        storage.savePropertyBook(propertyBook);
+        String snapshot = Files.readString(filePath);
+
+        propertyBook.setProperty(propertyBook.getPropertyList().get(0), PROPERTY_ALPHA_VARIANT);
+        propertyBook.removeProperty(propertyBook.getPropertyList().get(1));
+        propertyBook.addProperty(PROPERTY_DELTA);
+        propertyBook.setNextUuid(5);
+        storage.savePropertyBook(propertyBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // base, remove, two puts and the UUID counter
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertReadsBack(propertyBook);
+
+        // saving again without changes appends nothing
+        storage.savePropertyBook(propertyBook);
+        assertEquals(5, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void savePropertyBook_snapshotsTakenBetweenChanges_appendsOnlyChanges() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        storage.savePropertyBook(propertyBook.getSnapshot());
+
+        // several commands can run between two saves
+        propertyBook.addProperty(PROPERTY_DELTA);
+        propertyBook.setProperty(PROPERTY_DELTA, new PropertyBuilderUtil(PROPERTY_DELTA).withPostal("118878").build());
+        propertyBook.removeProperty(propertyBook.getPropertyList().get(0));
+        storage.savePropertyBook(propertyBook.getSnapshot());
+
+        // base, remove and a single put of the last version of the added property
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertReadsBack(propertyBook);
+    }
+
+    @Test
+    public void savePropertyBook_contentsReplaced_appendsOnlyChanges() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        storage.savePropertyBook(propertyBook);
+
+        List<Property> properties = new ArrayList<>(propertyBook.getPropertyList());
+        properties.set(1, new PropertyBuilderUtil(properties.get(1)).withPostal("118878").build());
+        propertyBook.setProperties(properties);
+        storage.savePropertyBook(propertyBook);
+
+        // base and a put of the one property that differs
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertReadsBack(propertyBook);
+    }
+
+    @Test
+    public void savePropertyBook_afterRead_appendsToExistingJournal() throws Exception {
+        new JournalPropertyBookStorage(filePath).savePropertyBook(propertyBook);
+        propertyBook.addProperty(PROPERTY_DELTA);
+        new JournalPropertyBookStorage(filePath).savePropertyBook(propertyBook);
+
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        PropertyBook readBack = new PropertyBook(storage.readPropertyBook().get());
+        readBack.removeProperty(PROPERTY_DELTA);
+        storage.savePropertyBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertReadsBack(readBack);
+    }
+
+    @Test
+    public void savePropertyBook_journalReachesThreshold_compacts() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath, 2);
+        storage.savePropertyBook(propertyBook);
+
+        propertyBook.removeProperty(propertyBook.getPropertyList().get(2));
+        storage.savePropertyBook(propertyBook);
+        assertTrue(Files.exists(journalPath));
+
+        // the threshold is also never below the number of properties, which is 3 here
+        propertyBook.addProperty(PROPERTY_DELTA);
+        propertyBook.setNextUuid(5);
+        storage.savePropertyBook(propertyBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(propertyBook, new JsonPropertyBookStorage(filePath).readPropertyBook().get());
+    }
+
+    @Test
+    public void readPropertyBook_tornLastRecord_skipsRecordAndCompactsOnNextSave() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        storage.savePropertyBook(propertyBook);
+        propertyBook.addProperty(PROPERTY_DELTA);
+        storage.savePropertyBook(propertyBook);
+        Files.writeString(journalPath, "{\"op\":\"put\",\"prop", StandardOpenOption.APPEND);
+
+        JournalPropertyBookStorage reopened = new JournalPropertyBookStorage(filePath);
+        PropertyBook readBack = new PropertyBook(reopened.readPropertyBook().get());
+        assertEquals(propertyBook, readBack);
+
+        reopened.savePropertyBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertReadsBack(propertyBook);
+    }
+
+    @Test
+    public void readPropertyBook_journalOfOlderSnapshot_ignored() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        storage.savePropertyBook(propertyBook);
+        propertyBook.addProperty(PROPERTY_DELTA);
+        storage.savePropertyBook(propertyBook);
+        List<String> staleJournal = Files.readAllLines(journalPath);
+
+        // simulates a compaction interrupted after the new snapshot was written
+        PropertyBook compacted = getTypicalPropertyBook();
+        new JsonPropertyBookStorage(filePath).savePropertyBook(compacted);
+        Files.write(journalPath, staleJournal, StandardCharsets.UTF_8);
+
+        assertReadsBack(compacted);
+    }
+
+    @Test
+    public void readPropertyBook_fallsBackToEarlierGeneration_ignoresJournalAndCompactsOnNextSave() throws Exception {
+        PropertyBook earlier = getTypicalPropertyBook();
+        new JournalPropertyBookStorage(filePath).savePropertyBook(earlier);
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        propertyBook.removeProperty(propertyBook.getPropertyList().get(2));
+        storage.savePropertyBook(propertyBook);
+        propertyBook.addProperty(PROPERTY_DELTA);
+        storage.savePropertyBook(propertyBook);
+        assertTrue(Files.exists(journalPath));
+
+        // the journal was written for the lost file, not for the generation before it
+        Files.delete(filePath);
+        JournalPropertyBookStorage reopened = new JournalPropertyBookStorage(filePath);
+        PropertyBook readBack = new PropertyBook(reopened.readPropertyBook().get());
+        assertEquals(earlier, readBack);
+
+        reopened.savePropertyBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertReadsBack(earlier);
+    }
+
+    @Test
+    public void readPropertyBook_invalidRecordBeforeEnd_throwsDataLoadingException() throws Exception {
+        JournalPropertyBookStorage storage = new JournalPropertyBookStorage(filePath);
+        storage.savePropertyBook(propertyBook);
+        propertyBook.addProperty(PROPERTY_DELTA);
+        storage.savePropertyBook(propertyBook);
+        List<String> lines = Files.readAllLines(journalPath);
+        lines.add(1, "not a record");
+        Files.write(journalPath, lines, StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalPropertyBookStorage(filePath).readPropertyBook());
+    }
+
+    @Test
+    public void savePropertyBook_nullPropertyBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalPropertyBookStorage(filePath)
+                .savePropertyBook(null));
+    }
+
+    private void assertReadsBack(PropertyBook expected) throws Exception {
+        PropertyBook readBack = new PropertyBook(new JournalPropertyBookStorage(filePath).readPropertyBook().get());
+        assertEquals(expected, readBack);
+        assertEquals(expected.getNextUuid(), readBack.getNextUuid());
+    }
+}
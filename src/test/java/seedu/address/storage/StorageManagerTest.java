@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -81,6 +85,30 @@ public class StorageManagerTest {
         assertEquals(original, new PropertyBook(retrieved));
     }
 
+    @Test
+    public void savePropertyBook_unchangedVersion_skipsWrite() throws Exception {
+        PropertyBook propertyBook = getTypicalPropertyBook();
+        storageManager.savePropertyBook(propertyBook);
+        Files.delete(storageManager.getPropertyBookFilePath());
+
+        storageManager.savePropertyBook(new PropertyBook(propertyBook));
+        assertFalse(Files.exists(storageManager.getPropertyBookFilePath()));
+
+        propertyBook.removeProperty(PROPERTY_ALPHA);
+        storageManager.savePropertyBook(propertyBook);
+        assertTrue(Files.exists(storageManager.getPropertyBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_versionJustRead_skipsWrite() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(retrieved);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
     @Test
     public void getPropertyBookFilePath() {
         assertNotNull(storageManager.getPropertyBookFilePath());
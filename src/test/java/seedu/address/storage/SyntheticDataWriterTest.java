@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PropertyBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class SyntheticDataWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_generatedBooks_readBackEqual() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(11, 300, 500, 2);
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        Path propertyBookFilePath = testFolder.resolve("propertybook.json");
+        SyntheticDataWriter.write(generator, addressBookFilePath, propertyBookFilePath);
+
+        ReadOnlyAddressBook readBackAddressBook = new JsonAddressBookStorage(addressBookFilePath)
+                .readAddressBook().get();
+        ReadOnlyPropertyBook readBackPropertyBook = new JsonPropertyBookStorage(propertyBookFilePath)
+                .readPropertyBook().get();
+        AddressBook expectedAddressBook = generator.getAddressBook();
+        PropertyBook expectedPropertyBook = generator.getPropertyBook();
+        assertEquals(expectedAddressBook, new AddressBook(readBackAddressBook));
+        assertEquals(expectedAddressBook.toString(), new AddressBook(readBackAddressBook).toString());
+        assertEquals(301, readBackAddressBook.getNextUuid());
+        assertEquals(expectedPropertyBook, new PropertyBook(readBackPropertyBook));
+        assertEquals(expectedPropertyBook.getPropertyList().get(499).getBuyingContactIds(),
+                readBackPropertyBook.getPropertyList().get(499).getBuyingContactIds());
+        assertEquals(501, readBackPropertyBook.getNextUuid());
+    }
+
+    @Test
+    public void parseNamedArgs_validArgs_parsed() {
+        assertEquals(Map.of("contacts", "5", "dir", "out/data"),
+                SyntheticDataWriter.parseNamedArgs("--contacts=5", "--dir=out/data"));
+    }
+
+    @Test
+    public void parseNamedArgs_invalidArgs_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> SyntheticDataWriter.parseNamedArgs("contacts=5"));
+        assertThrows(IllegalArgumentException.class, () -> SyntheticDataWriter.parseNamedArgs("--contacts"));
+        assertThrows(IllegalArgumentException.class, () -> SyntheticDataWriter.parseNamedArgs("--colour=red"));
+    }
+}